@@ -0,0 +1,63 @@
+package org.board.board.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.board.board.entity.MemberType;
+import org.board.board.service.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** 인증 헤더가 있는 요청 하나를 JwtAuthFilter에 통과시키는 비용. 클레임 캐시 사용 여부에 따라 비교한다. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-for-jmh-only-very-long-secret-key";
+
+  @Param({"true", "false"})
+  private boolean cacheEnabled;
+
+  private JwtAuthFilter filter;
+  private String authorization;
+
+  @Setup
+  public void setUp() {
+    JwtService jwtService = new JwtService(SECRET, 3_600_000L);
+    filter =
+        new JwtAuthFilter(
+            new JwtClaimsCache(jwtService, new SimpleMeterRegistry(), cacheEnabled, 100_000));
+    authorization = "Bearer " + jwtService.generateToken(1L, MemberType.USER);
+  }
+
+  @Benchmark
+  public Object doFilterInternal() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards");
+    request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+    try {
+      filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+      return SecurityContextHolder.getContext().getAuthentication();
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package org.board.board.dto.board;
+
+import java.util.concurrent.TimeUnit;
+
+import org.board.board.entity.Board;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * 게시글 상세 응답의 동시 직렬화 처리량을 비교한다. H2에 저장한 게시글을 Hibernate 세션으로 읽은 관리 엔티티와 {@code
+ * getReference}로 얻은 (초기화된) Hibernate 프록시, 그리고 같은 값의 BoardDetailResponse 레코드를 애플리케이션과 같은
+ * ObjectMapper 설정(Blackbird, FAIL_ON_EMPTY_BEANS 끔)으로 직렬화한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class BoardDetailSerializationBenchmark {
+
+  private ObjectMapper objectMapper;
+  private SessionFactory sessionFactory;
+  private Session entitySession;
+  private Session proxySession;
+  private Board managedEntity;
+  private Board proxy;
+  private BoardDetailResponse detail;
+
+  @Setup
+  public void setUp() {
+    objectMapper =
+        Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new BlackbirdModule())
+            .featuresToDisable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .build();
+    sessionFactory =
+        new Configuration()
+            .addAnnotatedClass(Board.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .buildSessionFactory();
+
+    Long id =
+        sessionFactory.fromTransaction(
+            session -> {
+              Board board = new Board("게시글 제목", "게시글 내용입니다. ".repeat(30), 7L);
+              session.persist(board);
+              return board.getId();
+            });
+
+    entitySession = sessionFactory.openSession();
+    managedEntity = entitySession.find(Board.class, id);
+    proxySession = sessionFactory.openSession();
+    proxy = proxySession.getReference(Board.class, id);
+    Hibernate.initialize(proxy);
+
+    detail =
+        new BoardDetailResponse(
+            managedEntity.getId(),
+            managedEntity.getTitle(),
+            managedEntity.getContent(),
+            managedEntity.getMemberId(),
+            managedEntity.getViewCount(),
+            managedEntity.getVersion(),
+            managedEntity.getCreatedAt(),
+            managedEntity.getUpdatedAt());
+  }
+
+  @TearDown
+  public void tearDown() {
+    entitySession.close();
+    proxySession.close();
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  public byte[] managedEntity() throws Exception {
+    return objectMapper.writeValueAsBytes(managedEntity);
+  }
+
+  @Benchmark
+  public byte[] hibernateProxy() throws Exception {
+    return objectMapper.writeValueAsBytes(proxy);
+  }
+
+  @Benchmark
+  public byte[] detailRecord() throws Exception {
+    return objectMapper.writeValueAsBytes(detail);
+  }
+}
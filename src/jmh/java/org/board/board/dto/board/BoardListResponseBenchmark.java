@@ -0,0 +1,60 @@
+package org.board.board.dto.board;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.board.board.entity.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/** 엔티티 한 페이지를 BoardListResponse로 옮기는 비용. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardListResponseBenchmark {
+
+  @Param({"20", "100"})
+  private int pageSize;
+
+  private Page<Board> page;
+
+  @Setup
+  public void setUp() {
+    LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+    List<Board> boards = new ArrayList<>(pageSize);
+    for (long id = 1; id <= pageSize; id++) {
+      Board board = new Board("게시글 제목 " + id, "게시글 내용 ".repeat(20), id % 10);
+      board.setId(id);
+      board.setCreatedAt(baseTime.plusMinutes(id));
+      boards.add(board);
+    }
+    page = new PageImpl<>(boards, PageRequest.of(0, pageSize), 10_000);
+  }
+
+  @Benchmark
+  public Page<BoardListResponse> pageMap() {
+    return page.map(BoardListResponse::from);
+  }
+
+  @Benchmark
+  public List<BoardListResponse> streamToList() {
+    return page.getContent().stream().map(BoardListResponse::from).toList();
+  }
+}
@@ -0,0 +1,90 @@
+package org.board.board.dto.board;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 게시글 목록 응답을 gzip으로 압축하는 비용과 줄어드는 크기. 준비 단계에서 원본/압축 바이트와, 10Mbps 모바일 회선 기준으로 줄어드는 전송
+ * 시간을 출력하므로 압축 시간(벤치마크 결과)과 비교해 min-response-size를 정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardPageCompressionBenchmark {
+
+  private static final double MOBILE_BYTES_PER_MICRO = 10_000_000 / 8.0 / 1_000_000;
+
+  @Param({"1", "20", "100"})
+  private int pageSize;
+
+  @Param({"100", "1000"})
+  private int contentLength;
+
+  private byte[] json;
+
+  @Setup
+  public void setUp() throws IOException {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+    List<BoardListResponse> boards = new ArrayList<>(pageSize);
+    for (long id = 1; id <= pageSize; id++) {
+      String content = ("게시글 " + id + "번 내용입니다. ").repeat(contentLength);
+      boards.add(
+          new BoardListResponse(
+              id,
+              "게시글 제목 " + id,
+              content.substring(0, contentLength),
+              id % 10,
+              baseTime.plusMinutes(id),
+              id * 3));
+    }
+    json =
+        objectMapper.writeValueAsBytes(
+            BoardPageResponse.from(new SliceImpl<>(boards, PageRequest.of(0, pageSize), true)));
+
+    int compressed = gzip().length;
+    System.out.printf(
+        "%npageSize=%d contentLength=%d json=%d bytes gzip=%d bytes (%.1f%%)"
+            + " transferSaved@10Mbps=%.0fus%n",
+        pageSize,
+        contentLength,
+        json.length,
+        compressed,
+        compressed * 100.0 / json.length,
+        (json.length - compressed) / MOBILE_BYTES_PER_MICRO);
+  }
+
+  @Benchmark
+  public byte[] gzip() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(json);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,97 @@
+package org.board.board.dto.board;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * 게시글 목록 응답을 JSON으로 직렬화하는 비용. PageImpl을 그대로 쓰는 경우와 BoardPageResponse 봉투를 Blackbird 모듈 유무에 따라
+ * 비교한다. 응답 크기(바이트)는 준비 단계에서 한 번 출력한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardPageSerializationBenchmark {
+
+  @Param({"20", "100"})
+  private int pageSize;
+
+  @Param({"false", "true"})
+  private boolean blackbird;
+
+  private ObjectMapper objectMapper;
+  private Page<BoardListResponse> page;
+  private BoardPageResponse envelope;
+
+  @Setup
+  public void setUp() {
+    Jackson2ObjectMapperBuilder builder =
+        Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    if (blackbird) {
+      builder.modulesToInstall(new BlackbirdModule());
+    }
+    objectMapper = builder.build();
+    LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+    List<BoardListResponse> boards = new ArrayList<>(pageSize);
+    for (long id = 1; id <= pageSize; id++) {
+      boards.add(
+          new BoardListResponse(
+              id,
+              "게시글 제목 " + id,
+              "게시글 내용 미리보기 ".repeat(8),
+              id % 10,
+              baseTime.plusMinutes(id),
+              id * 3));
+    }
+    page = new PageImpl<>(boards, PageRequest.of(0, pageSize), 10_000);
+    envelope = BoardPageResponse.from(page);
+
+    System.out.printf(
+        "%npageSize=%d pageImpl=%d bytes envelope=%d bytes%n",
+        pageSize, writeBytes(page).length, writeBytes(envelope).length);
+  }
+
+  @Benchmark
+  public byte[] pageImpl() throws Exception {
+    return objectMapper.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  public byte[] envelope() throws Exception {
+    return objectMapper.writeValueAsBytes(BoardPageResponse.from(page));
+  }
+
+  private byte[] writeBytes(Object value) {
+    try {
+      return objectMapper.writeValueAsBytes(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
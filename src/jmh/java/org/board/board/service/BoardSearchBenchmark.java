@@ -0,0 +1,95 @@
+package org.board.board.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.board.board.entity.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 백만 건 게시글에서 역색인 검색과 LIKE '%검색어%'에 해당하는 전체 스캔을 비교한다.
+ *
+ * <p>측정 대상은 H2 등에서 쓰는 {@link InMemoryBoardSearchEngine}이다. 운영 경로인 MySQL FULLTEXT(ngram) 검색은 DB가 있어야
+ * 하므로 이 벤치마크로 측정하지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class BoardSearchBenchmark {
+
+  private static final String[] WORDS = {
+    "게시판", "공지", "점심", "메뉴", "스프링", "자바", "성능", "검색", "인덱스", "질문",
+    "답변", "후기", "여행", "사진", "주말", "모임", "개발", "서버", "배포", "장애"
+  };
+
+  @Param({"1000000"})
+  private int corpusSize;
+
+  @Param({"인덱스", "스프링 성능"})
+  private String query;
+
+  private InMemoryBoardSearchEngine searchEngine;
+  private List<Board> boards;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+    searchEngine = new InMemoryBoardSearchEngine(null, 100);
+    boards = new ArrayList<>(corpusSize);
+    for (long id = 1; id <= corpusSize; id++) {
+      Board board = new Board(sentence(random, 3), sentence(random, 12), id % 1000);
+      board.setId(id);
+      board.setCreatedAt(baseTime.plusSeconds(id));
+      boards.add(board);
+      searchEngine.index(board);
+    }
+  }
+
+  @Benchmark
+  public List<BoardSearchHit> invertedIndex() {
+    return searchEngine.search(query, null, 21);
+  }
+
+  @Benchmark
+  public int fullScan() {
+    String[] terms = query.split(" ");
+    int matches = 0;
+    for (Board board : boards) {
+      for (String term : terms) {
+        if (board.getTitle().contains(term) || board.getContent().contains(term)) {
+          matches++;
+          break;
+        }
+      }
+    }
+    return matches;
+  }
+
+  private static String sentence(Random random, int wordCount) {
+    StringBuilder sentence = new StringBuilder();
+    for (int i = 0; i < wordCount; i++) {
+      if (i > 0) {
+        sentence.append(' ');
+      }
+      sentence.append(WORDS[random.nextInt(WORDS.length)]);
+    }
+    return sentence.toString();
+  }
+}
@@ -0,0 +1,59 @@
+package org.board.board.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.board.board.entity.MemberType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-for-jmh-only-very-long-secret-key";
+
+  private JwtService jwtService;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtService = new JwtService(SECRET, 3_600_000L);
+    token = jwtService.generateToken(1L, MemberType.USER);
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return jwtService.generateToken(1L, MemberType.USER);
+  }
+
+  @Benchmark
+  public Long getIdFromToken_sharedParser() {
+    return jwtService.getIdFromToken(token);
+  }
+
+  @Benchmark
+  public Long getIdFromToken_parserPerCall() {
+    SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    return Long.parseLong(claims.getSubject());
+  }
+}
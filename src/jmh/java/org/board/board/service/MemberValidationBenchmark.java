@@ -0,0 +1,55 @@
+package org.board.board.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 회원가입 시 username, password 정규식 검증 비용. 형식이 틀린 입력은 예외 생성 비용까지 포함되며, long은 길이 제한을 크게 넘는 입력이
+ * 전방 탐색(lookahead)을 끝까지 훑는 경우다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberValidationBenchmark {
+
+  @Param({"valid", "invalid", "long"})
+  private String input;
+
+  private String username;
+  private String password;
+
+  @Setup
+  public void setUp() {
+    username = "user1234";
+    password =
+        switch (input) {
+          case "valid" -> "Password123";
+          case "invalid" -> "password";
+          default -> "a".repeat(10_000);
+        };
+  }
+
+  @Benchmark
+  public boolean validateCredentialFormat() {
+    try {
+      MemberService.validateCredentialFormat(username, password);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,386 @@
+package org.board.board.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 실행 중인 서버에 회원과 게시글을 시드한 뒤 읽기/쓰기가 섞인 부하를 걸고, 엔드포인트별 처리량, 지연 시간, 오류율을 출력한다.
+ *
+ * <pre>
+ * ./gradlew loadTestServer -PjavaVersion=21 -PvirtualThreads=true
+ * ./gradlew loadTest -Ploadtest.members=100 -Ploadtest.boards=1000 -Ploadtest.connections=500
+ * ./gradlew loadTest -Ploadtest.mode=open -Ploadtest.rate=2000 -Ploadtest.durationSeconds=60
+ * ./gradlew loadTest -Ploadtest.httpVersion=HTTP_2 -Ploadtest.gzip=true
+ * </pre>
+ *
+ * <p>closed(기본)는 연결마다 응답을 받은 뒤 다음 요청을 보내는 폐쇄 루프이고, open은 응답과 무관하게 초당 {@code rate}개 요청을 보내는
+ * 개방 루프다. 개방 루프의 지연 시간은 예정된 전송 시각부터 재므로 서버가 밀릴 때의 대기 시간까지 포함한다.
+ *
+ * <p>요청 구성은 {@code loadtest.mix}(예: {@code list=50,cursor=20,detail=20,create=5,update=3,login=2})로
+ * 정한다. 같은 부하를 -PvirtualThreads=false 로 띄운 서버에 반복해 플랫폼 스레드 구성과 비교한다.
+ *
+ * <p>{@code loadtest.httpVersion=HTTP_2}는 h2c로 연결을 다중화하고, {@code loadtest.gzip=true}는 부하 요청에 {@code
+ * Accept-Encoding: gzip}을 붙여 응답 압축을 켠 경우의 지연 시간과 비교한다.
+ */
+public final class LoadTest {
+
+  private static final Pattern TOKEN_PATTERN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+  private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+  private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+  private static final String PASSWORD = "Password123";
+  private static final String DEFAULT_MIX =
+      "list=50,cursor=20,detail=20,create=5,update=3,login=2";
+
+  private final HttpClient client;
+  private final String baseUrl;
+  private final int seedConcurrency;
+  private final List<String> usernames = new ArrayList<>();
+  private final List<String> tokens = new ArrayList<>();
+  private final List<SeededBoard> boards = new ArrayList<>();
+  private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+  private int totalWeight;
+  private boolean acceptGzip;
+
+  private LoadTest(String baseUrl, int seedConcurrency, HttpClient.Version httpVersion) {
+    this.baseUrl = baseUrl;
+    this.seedConcurrency = seedConcurrency;
+    this.client =
+        HttpClient.newBuilder()
+            .version(httpVersion)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+  }
+
+  public static void main(String[] args) throws Exception {
+    String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+    String mode = System.getProperty("loadtest.mode", "closed");
+    int connections = Integer.getInteger("loadtest.connections", 5000);
+    double rate = Double.parseDouble(System.getProperty("loadtest.rate", "1000"));
+    long durationSeconds = Long.getLong("loadtest.durationSeconds", 60L);
+    long warmupSeconds = Long.getLong("loadtest.warmupSeconds", 10L);
+    String mix = System.getProperty("loadtest.mix", DEFAULT_MIX);
+
+    HttpClient.Version httpVersion =
+        HttpClient.Version.valueOf(System.getProperty("loadtest.httpVersion", "HTTP_1_1"));
+
+    LoadTest loadTest =
+        new LoadTest(baseUrl, Integer.getInteger("loadtest.seedConcurrency", 16), httpVersion);
+    loadTest.seedMembers(Integer.getInteger("loadtest.members", 100));
+    loadTest.seedBoards(Integer.getInteger("loadtest.boards", 1000));
+    loadTest.configureMix(mix);
+    // 시드 응답은 본문을 파싱하므로 압축 요청은 부하 구간에만 붙인다
+    loadTest.acceptGzip = Boolean.getBoolean("loadtest.gzip");
+
+    loadTest.run(mode, connections, rate, Duration.ofSeconds(warmupSeconds));
+    loadTest.endpoints.values().forEach(Endpoint::reset);
+
+    long started = System.nanoTime();
+    loadTest.run(mode, connections, rate, Duration.ofSeconds(durationSeconds));
+    double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+    System.out.printf(
+        "mode=%s %s %s gzip=%s members=%d boards=%d mix=%s%n",
+        mode,
+        "open".equals(mode) ? "rate=" + rate + "/s" : "connections=" + connections,
+        httpVersion,
+        loadTest.acceptGzip,
+        loadTest.tokens.size(),
+        loadTest.boards.size(),
+        mix);
+    loadTest.report(elapsedSeconds);
+  }
+
+  private void seedMembers(int count) {
+    List<String> names = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      names.add(String.format("lt%06d", i));
+    }
+    usernames.addAll(names);
+    tokens.addAll(seed(names, this::signUpAndLogin));
+  }
+
+  private CompletableFuture<String> signUpAndLogin(String username) {
+    String credentials = "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"";
+    return client
+        .sendAsync(
+            post("/api/auth/sign-up", credentials + ",\"type\":\"USER\"}", null),
+            HttpResponse.BodyHandlers.discarding())
+        .thenCompose(
+            ignored ->
+                client.sendAsync(
+                    post("/api/auth/login", credentials + "}", null),
+                    HttpResponse.BodyHandlers.ofString()))
+        .thenApply(login -> extract(TOKEN_PATTERN, login));
+  }
+
+  private void seedBoards(int count) {
+    List<Integer> indexes = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      indexes.add(i);
+    }
+    boards.addAll(seed(indexes, this::createBoard));
+  }
+
+  private CompletableFuture<SeededBoard> createBoard(int index) {
+    int owner = index % tokens.size();
+    String body = "{\"title\":\"load test " + index + "\",\"content\":\"content " + index + "\"}";
+    return client
+        .sendAsync(
+            post("/api/boards", body, tokens.get(owner)), HttpResponse.BodyHandlers.ofString())
+        .thenApply(
+            response -> new SeededBoard(Long.parseLong(extract(ID_PATTERN, response)), owner));
+  }
+
+  /** 시드 요청을 {@code seedConcurrency}개씩 묶어 보내 서버의 해시 작업 큐가 넘치지 않게 한다. */
+  private <T, R> List<R> seed(List<T> inputs, Function<T, CompletableFuture<R>> request) {
+    List<R> results = new ArrayList<>(inputs.size());
+    for (int from = 0; from < inputs.size(); from += seedConcurrency) {
+      List<CompletableFuture<R>> chunk =
+          inputs.subList(from, Math.min(from + seedConcurrency, inputs.size())).stream()
+              .map(request)
+              .toList();
+      chunk.forEach(future -> results.add(future.join()));
+    }
+    return results;
+  }
+
+  private void configureMix(String mix) {
+    Map<String, Function<Random, HttpRequest>> operations =
+        Map.of(
+            "list", random -> get("/api/boards?size=20", randomToken(random)),
+            "cursor", random -> get("/api/boards/cursor?size=20", randomToken(random)),
+            "detail",
+                random -> get("/api/boards/" + randomBoard(random).id(), randomToken(random)),
+            "create",
+                random ->
+                    post(
+                        "/api/boards",
+                        "{\"title\":\"load test\",\"content\":\"created during run\"}",
+                        randomToken(random)),
+            "update",
+                random -> {
+                  SeededBoard board = randomBoard(random);
+                  return put(
+                      "/api/boards/" + board.id(),
+                      "{\"title\":\"load test\",\"content\":\"updated during run\"}",
+                      tokens.get(board.owner()));
+                },
+            "login",
+                random ->
+                    post(
+                        "/api/auth/login",
+                        "{\"username\":\""
+                            + usernames.get(random.nextInt(usernames.size()))
+                            + "\",\"password\":\""
+                            + PASSWORD
+                            + "\"}",
+                        null));
+
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.trim().split("=");
+      Function<Random, HttpRequest> operation = operations.get(parts[0]);
+      if (operation == null) {
+        throw new IllegalArgumentException("Unknown operation in loadtest.mix: " + parts[0]);
+      }
+      int weight = Integer.parseInt(parts[1]);
+      endpoints.put(parts[0], new Endpoint(parts[0], weight, operation));
+      totalWeight += weight;
+    }
+  }
+
+  private Endpoint pick(Random random) {
+    int target = random.nextInt(totalWeight);
+    for (Endpoint endpoint : endpoints.values()) {
+      target -= endpoint.weight();
+      if (target < 0) {
+        return endpoint;
+      }
+    }
+    throw new IllegalStateException("Empty mix");
+  }
+
+  private void run(String mode, int connections, double rate, Duration duration)
+      throws InterruptedException {
+    if ("open".equals(mode)) {
+      runOpenLoop(rate, duration);
+    } else {
+      runClosedLoop(connections, duration);
+    }
+  }
+
+  private void runClosedLoop(int connections, Duration duration) throws InterruptedException {
+    long deadline = System.nanoTime() + duration.toNanos();
+    CountDownLatch finished = new CountDownLatch(connections);
+    for (int i = 0; i < connections; i++) {
+      loop(deadline, finished);
+    }
+    finished.await();
+  }
+
+  private void loop(long deadline, CountDownLatch finished) {
+    if (System.nanoTime() >= deadline) {
+      finished.countDown();
+      return;
+    }
+    send(pick(ThreadLocalRandom.current()), System.nanoTime())
+        .whenCompleteAsync((ignored, error) -> loop(deadline, finished));
+  }
+
+  /** 예정 시각마다 요청을 보내고, 지연 시간은 실제 전송 시각이 아니라 예정 시각부터 잰다. */
+  private void runOpenLoop(double rate, Duration duration) throws InterruptedException {
+    long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+    long started = System.nanoTime();
+    long deadline = started + duration.toNanos();
+    AtomicLong inFlight = new AtomicLong();
+    Random random = new Random();
+    for (long i = 0; ; i++) {
+      long scheduled = started + i * interval;
+      if (scheduled >= deadline) {
+        break;
+      }
+      long wait = scheduled - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      inFlight.incrementAndGet();
+      send(pick(random), scheduled).whenComplete((ignored, error) -> inFlight.decrementAndGet());
+    }
+    long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  private CompletableFuture<HttpResponse<Void>> send(Endpoint endpoint, long scheduled) {
+    HttpRequest request = endpoint.operation().apply(ThreadLocalRandom.current());
+    return client
+        .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .whenComplete(
+            (response, error) ->
+                endpoint.record(
+                    System.nanoTime() - scheduled, error != null || response.statusCode() >= 400));
+  }
+
+  private void report(double elapsedSeconds) {
+    System.out.printf(
+        "%-8s %10s %10s %9s %9s %9s %9s %8s%n",
+        "endpoint", "requests", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors");
+    Histogram overall = new Histogram(MAX_LATENCY_MICROS, 3);
+    long overallErrors = 0;
+    for (Endpoint endpoint : endpoints.values()) {
+      Histogram histogram = endpoint.recorder().getIntervalHistogram();
+      overall.add(histogram);
+      overallErrors += endpoint.errors().get();
+      print(endpoint.name(), histogram, endpoint.errors().get(), elapsedSeconds);
+    }
+    print("total", overall, overallErrors, elapsedSeconds);
+  }
+
+  private static void print(String name, Histogram histogram, long errors, double elapsedSeconds) {
+    long total = histogram.getTotalCount();
+    System.out.printf(
+        "%-8s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %7.2f%%%n",
+        name,
+        total,
+        total / elapsedSeconds,
+        histogram.getValueAtPercentile(50) / 1000.0,
+        histogram.getValueAtPercentile(99) / 1000.0,
+        histogram.getValueAtPercentile(99.9) / 1000.0,
+        histogram.getMaxValue() / 1000.0,
+        total == 0 ? 0.0 : errors * 100.0 / total);
+  }
+
+  private String randomToken(Random random) {
+    return tokens.get(random.nextInt(tokens.size()));
+  }
+
+  private SeededBoard randomBoard(Random random) {
+    return boards.get(random.nextInt(boards.size()));
+  }
+
+  private HttpRequest get(String path, String token) {
+    return request(path, token).GET().build();
+  }
+
+  private HttpRequest post(String path, String json, String token) {
+    return request(path, token)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(json))
+        .build();
+  }
+
+  private HttpRequest put(String path, String json, String token) {
+    return request(path, token)
+        .header("Content-Type", "application/json")
+        .PUT(HttpRequest.BodyPublishers.ofString(json))
+        .build();
+  }
+
+  private HttpRequest.Builder request(String path, String token) {
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+    if (acceptGzip) {
+      builder.header("Accept-Encoding", "gzip");
+    }
+    return builder;
+  }
+
+  private static String extract(Pattern pattern, HttpResponse<String> response) {
+    Matcher matcher = pattern.matcher(response.body());
+    if (response.statusCode() >= 400 || !matcher.find()) {
+      throw new IllegalStateException(
+          "Seeding failed: " + response.statusCode() + " " + response.body());
+    }
+    return matcher.group(1);
+  }
+
+  private record SeededBoard(long id, int owner) {}
+
+  private record Endpoint(
+      String name,
+      int weight,
+      Function<Random, HttpRequest> operation,
+      Recorder recorder,
+      AtomicLong errors) {
+
+    Endpoint(String name, int weight, Function<Random, HttpRequest> operation) {
+      this(name, weight, operation, new Recorder(MAX_LATENCY_MICROS, 3), new AtomicLong());
+    }
+
+    void record(long elapsedNanos, boolean error) {
+      long micros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+      recorder.recordValue(Math.min(Math.max(1L, micros), MAX_LATENCY_MICROS));
+      if (error) {
+        errors.incrementAndGet();
+      }
+    }
+
+    void reset() {
+      recorder.reset();
+      errors.set(0);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.board.board.config;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 비밀번호 해시를 고정 크기 풀에서 실행해 CPU 사용을 제한한다.
+ *
+ * <p>큐가 가득 차거나 {@code maxWait} 안에 결과를 받지 못하면 {@link RejectedExecutionException}을 던지며, 호출 측은 이를
+ * 503으로 응답한다. 대기 시간이 제한되므로 큐에 쌓인 작업을 기다리는 요청 스레드도 최대 {@code maxWait} 동안만 점유된다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Duration maxWait;
+  private final Timer hashTimer;
+
+  public BoundedPasswordEncoder(
+      PasswordEncoder delegate,
+      int threads,
+      int queueCapacity,
+      Duration maxWait,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.maxWait = maxWait;
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("password-hash-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.hashTimer =
+        Timer.builder("password.hash")
+            .description("Time spent hashing or verifying a password")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+
+    Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+        .description("Password hashing tasks waiting for a worker")
+        .register(meterRegistry);
+    Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("Password hashing tasks currently running")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return submit(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return submit(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private <T> T submit(Callable<T> task) {
+    Future<T> future = executor.submit(() -> hashTimer.recordCallable(task));
+    try {
+      return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      executor.purge();
+      throw new RejectedExecutionException("Password hashing did not complete within " + maxWait);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package org.board.board.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  public static final String BOARDS = "boards";
+}
@@ -0,0 +1,84 @@
+package org.board.board.config;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@code board.datasource.replicas}가 설정되면 주 DB와 복제본을 묶은 라우팅 데이터소스를 기본 데이터소스로 등록한다.
+ * 설정이 없으면 Spring Boot 기본 데이터소스를 그대로 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "board.datasource", name = "replicas[0].url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  public ReadWriteRoutingDataSource routingDataSource(
+      @Qualifier("primaryDataSource") HikariDataSource primary,
+      DataSourceProperties properties,
+      ReplicaDataSourceProperties replicaProperties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    List<ReplicaDataSourceProperties.Replica> replicas = replicaProperties.replicas();
+    List<HikariDataSource> replicaPools =
+        IntStream.range(0, replicas.size())
+            .mapToObj(index -> replicaPool(replicas.get(index), index, primary, properties))
+            .toList();
+    // 복제본 풀은 빈이 아니어서 자동 계측되지 않으므로 직접 hikaricp.* 지표를 등록한다
+    meterRegistry.ifAvailable(
+        registry -> replicaPools.forEach(pool -> pool.setMetricRegistry(registry)));
+    return new ReadWriteRoutingDataSource(
+        primary,
+        replicaPools,
+        new ReadYourWritesTracker(replicaProperties.readYourWritesWindow()));
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  private static HikariDataSource replicaPool(
+      ReplicaDataSourceProperties.Replica replica,
+      int index,
+      HikariDataSource primary,
+      DataSourceProperties properties) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("replica-" + index);
+    dataSource.setDriverClassName(properties.determineDriverClassName());
+    dataSource.setJdbcUrl(replica.url());
+    dataSource.setUsername(
+        replica.username() == null ? properties.determineUsername() : replica.username());
+    dataSource.setPassword(
+        replica.password() == null ? properties.determinePassword() : replica.password());
+    dataSource.setMaximumPoolSize(primary.getMaximumPoolSize());
+    dataSource.setConnectionTimeout(primary.getConnectionTimeout());
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+}
@@ -0,0 +1,17 @@
+package org.board.board.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+@Configuration
+public class JacksonConfig {
+
+  /** 리플렉션 대신 LambdaMetafactory로 만든 접근자로 getter/생성자를 호출해 목록 응답 직렬화 비용을 줄인다. */
+  @Bean
+  public Module blackbirdModule() {
+    return new BlackbirdModule();
+  }
+}
@@ -1,15 +1,16 @@
 package org.board.board.config;
 
 import java.io.IOException;
+import java.util.List;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import org.board.board.service.JwtService;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.board.board.service.JwtClaims;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -18,7 +19,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-  @Autowired private JwtService jwtService;
+  private final JwtClaimsCache jwtClaimsCache;
+
+  public JwtAuthFilter(JwtClaimsCache jwtClaimsCache) {
+    this.jwtClaimsCache = jwtClaimsCache;
+  }
 
   @Override
   protected void doFilterInternal(
@@ -27,7 +32,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     final String authHeader = request.getHeader("Authorization");
     final String jwt;
-    final Long userId;
+    final JwtClaims claims;
 
     if (authHeader == null || !authHeader.startsWith("Bearer ")) {
       filterChain.doFilter(request, response);
@@ -36,19 +41,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     jwt = authHeader.substring(7);
     try {
-      userId = jwtService.getIdFromToken(jwt);
+      claims = jwtClaimsCache.resolve(jwt);
     } catch (Exception e) {
       filterChain.doFilter(request, response);
       return;
     }
 
-    if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-      if (jwtService.validateToken(jwt)) {
-        UsernamePasswordAuthenticationToken authToken =
-            new UsernamePasswordAuthenticationToken(userId.toString(), null, null);
-        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-        SecurityContextHolder.getContext().setAuthentication(authToken);
-      }
+    if (SecurityContextHolder.getContext().getAuthentication() == null) {
+      UsernamePasswordAuthenticationToken authToken =
+          new UsernamePasswordAuthenticationToken(
+              claims.id().toString(),
+              null,
+              List.of(new SimpleGrantedAuthority("ROLE_" + claims.type().getValue())));
+      authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+      SecurityContextHolder.getContext().setAuthentication(authToken);
     }
     filterChain.doFilter(request, response);
   }
@@ -0,0 +1,111 @@
+package org.board.board.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.board.board.service.JwtClaims;
+import org.board.board.service.JwtService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class JwtClaimsCache {
+
+  private final JwtService jwtService;
+  private final boolean enabled;
+  private final Cache<String, JwtClaims> cache;
+  private final Timer verificationTimer;
+  private final Counter savedVerificationTime;
+
+  public JwtClaimsCache(
+      JwtService jwtService,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.cache.enabled:false}") boolean enabled,
+      @Value("${jwt.cache.maximum-size:100000}") long maximumSize) {
+    this.jwtService = jwtService;
+    this.enabled = enabled;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry())
+            .recordStats()
+            .build();
+    this.verificationTimer =
+        Timer.builder("jwt.verification")
+            .description("Time spent verifying JWT signatures and parsing claims")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtClaims");
+    // 적중할 때마다 그 시점의 평균 검증 시간을 더한다. 평균이 내려가도 누적값은 줄지 않으므로 Prometheus rate()가 깨지지 않는다
+    this.savedVerificationTime =
+        Counter.builder("jwt.verification.saved")
+            .description("Estimated verification time avoided by cache hits")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+  }
+
+  public JwtClaims resolve(String token) {
+    if (!enabled) {
+      return verify(token);
+    }
+
+    String key = digest(token);
+    JwtClaims cached = cache.getIfPresent(key);
+    if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+      savedVerificationTime.increment(verificationTimer.mean(TimeUnit.SECONDS));
+      return cached;
+    }
+
+    JwtClaims claims = verify(token);
+    cache.put(key, claims);
+    return claims;
+  }
+
+  private JwtClaims verify(String token) {
+    return verificationTimer.record(() -> jwtService.parseToken(token));
+  }
+
+  private static String digest(String token) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      return Base64.getEncoder()
+          .encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class TokenExpiry implements Expiry<String, JwtClaims> {
+
+    @Override
+    public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+      return Math.max(0L, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, JwtClaims claims, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, claims, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, JwtClaims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package org.board.board.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@Configuration
+public class MetricsConfig {
+
+  /**
+   * 애플리케이션이 쓰는 {@code dataSource} 빈을 datasource-proxy로 감싸 {@link StatementCounter}가 모든 JDBC 실행을
+   * 보게 한다. 라우팅 데이터소스를 쓰는 경우에도 최상위 빈만 감싸므로 한 문장이 한 번만 세어진다.
+   */
+  @Bean
+  public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+          return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+            .name(beanName)
+            .listener(new StatementCounter())
+            .build();
+      }
+    };
+  }
+
+  @Bean
+  public StatementMetricsFilter statementMetricsFilter(MeterRegistry meterRegistry) {
+    return new StatementMetricsFilter(meterRegistry);
+  }
+}
@@ -0,0 +1,103 @@
+package org.board.board.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+public final class PasswordEncoderFactory {
+
+  public static final String BCRYPT = "bcrypt";
+  public static final String ARGON2 = "argon2";
+  public static final String PBKDF2 = "pbkdf2";
+
+  private static final Logger log = LoggerFactory.getLogger(PasswordEncoderFactory.class);
+
+  private static final int BCRYPT_MIN_STRENGTH = 10;
+  private static final int BCRYPT_MAX_STRENGTH = 16;
+  private static final int ARGON2_MIN_ITERATIONS = 2;
+  private static final int ARGON2_MAX_ITERATIONS = 32;
+  private static final int CALIBRATION_SAMPLES = 3;
+  private static final String CALIBRATION_PASSWORD = "Calibration123";
+
+  private PasswordEncoderFactory() {}
+
+  public static DelegatingPasswordEncoder create(
+      String idForEncode, Duration targetHashTime, boolean calibrate, int pbkdf2Iterations) {
+    int bcryptStrength = BCRYPT_MIN_STRENGTH;
+    int argon2Iterations = ARGON2_MIN_ITERATIONS;
+    if (calibrate && BCRYPT.equals(idForEncode)) {
+      bcryptStrength =
+          calibrate(
+              BCRYPT_MIN_STRENGTH,
+              BCRYPT_MAX_STRENGTH,
+              targetHashTime,
+              PasswordEncoderFactory::bcrypt);
+    } else if (calibrate && ARGON2.equals(idForEncode)) {
+      argon2Iterations =
+          calibrate(
+              ARGON2_MIN_ITERATIONS,
+              ARGON2_MAX_ITERATIONS,
+              targetHashTime,
+              PasswordEncoderFactory::argon2);
+    }
+
+    Map<String, PasswordEncoder> encoders = new HashMap<>();
+    encoders.put(BCRYPT, bcrypt(bcryptStrength));
+    encoders.put(ARGON2, argon2(argon2Iterations));
+    encoders.put(PBKDF2, pbkdf2(pbkdf2Iterations));
+    if (!encoders.containsKey(idForEncode)) {
+      throw new IllegalArgumentException("Unsupported password encoding: " + idForEncode);
+    }
+
+    DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode, encoders);
+    // 접두사 없이 저장된 기존 해시는 BCrypt로 검증하고, 로그인 시 재해시 대상이 된다.
+    delegating.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+    return delegating;
+  }
+
+  private static int calibrate(
+      int minCost, int maxCost, Duration targetHashTime, IntFunction<PasswordEncoder> factory) {
+    int cost = minCost;
+    while (cost < maxCost) {
+      Duration elapsed = measure(factory.apply(cost));
+      if (elapsed.compareTo(targetHashTime) >= 0) {
+        break;
+      }
+      cost++;
+    }
+    log.info("Calibrated password hash cost to {} (target {} ms)", cost, targetHashTime.toMillis());
+    return cost;
+  }
+
+  private static Duration measure(PasswordEncoder encoder) {
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+      long started = System.nanoTime();
+      encoder.encode(CALIBRATION_PASSWORD);
+      best = Math.min(best, System.nanoTime() - started);
+    }
+    return Duration.ofNanos(best);
+  }
+
+  private static PasswordEncoder bcrypt(int strength) {
+    return new BCryptPasswordEncoder(strength);
+  }
+
+  private static PasswordEncoder argon2(int iterations) {
+    return new Argon2PasswordEncoder(16, 32, 1, 1 << 14, iterations);
+  }
+
+  private static PasswordEncoder pbkdf2(int iterations) {
+    return new Pbkdf2PasswordEncoder(
+        "", 16, iterations, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+  }
+}
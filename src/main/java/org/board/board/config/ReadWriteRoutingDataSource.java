@@ -0,0 +1,95 @@
+package org.board.board.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외에는 주 DB로 커넥션을 보낸다.
+ *
+ * <p>트랜잭션의 읽기 전용 여부는 커넥션을 얻은 뒤에야 설정되므로, 반드시 {@code LazyConnectionDataSourceProxy}로 감싸 첫
+ * 쿼리 시점에 대상을 고르게 해야 한다. 복제본은 라운드 로빈으로 고르며, 최근에 쓰기를 한 회원의 읽기는 주 DB로 보낸다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource
+    implements DisposableBean {
+
+  static final String PRIMARY = "primary";
+
+  private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+  private final List<String> replicaKeys = new ArrayList<>();
+  private final List<HikariDataSource> replicas;
+  private final ReadYourWritesTracker readYourWritesTracker;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  public ReadWriteRoutingDataSource(
+      DataSource primary,
+      List<HikariDataSource> replicas,
+      ReadYourWritesTracker readYourWritesTracker) {
+    this.replicas = replicas;
+    this.readYourWritesTracker = readYourWritesTracker;
+
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY, primary);
+    for (int i = 0; i < replicas.size(); i++) {
+      String key = "replica-" + i;
+      replicaKeys.add(key);
+      targets.put(key, replicas.get(i));
+    }
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+  }
+
+  /**
+   * 읽기 전용 트랜잭션 안에서도 주 DB에서 읽는다. 결과를 공유 캐시에 넣는 조회에 쓴다. 복제본에서 읽으면 수정 직후 복제 지연 동안의 이전 행이
+   * 캐시에 다시 들어가 만료될 때까지 남는데, 이는 쓴 회원 본인만 보호하는 read-your-writes로는 막을 수 없다.
+   *
+   * <p>커넥션은 첫 쿼리 시점에 고르므로 {@code read} 안에서 첫 쿼리가 실행되어야 한다.
+   */
+  public static <T> T readFromPrimary(Supplier<T> read) {
+    Boolean previous = PRIMARY_READ.get();
+    PRIMARY_READ.set(Boolean.TRUE);
+    try {
+      return read.get();
+    } finally {
+      if (previous == null) {
+        PRIMARY_READ.remove();
+      } else {
+        PRIMARY_READ.set(previous);
+      }
+    }
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (replicaKeys.isEmpty()
+          || PRIMARY_READ.get() != null
+          || readYourWritesTracker.requiresPrimary()) {
+        return PRIMARY;
+      }
+      return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      readYourWritesTracker.recordWrite();
+    }
+    return PRIMARY;
+  }
+
+  @Override
+  public void destroy() {
+    replicas.forEach(HikariDataSource::close);
+  }
+}
@@ -0,0 +1,42 @@
+package org.board.board.config;
+
+import java.time.Duration;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 최근에 쓰기를 한 회원을 기억해, 복제 지연 동안 그 회원의 읽기가 주 DB로 가도록 한다.
+ *
+ * <p>회원은 요청 스레드의 인증 정보로 식별하므로, 인증되지 않은 요청이나 비동기 작업의 쓰기는 기록하지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+  private final Cache<String, Boolean> recentWriters;
+
+  public ReadYourWritesTracker(Duration window) {
+    this.recentWriters = Caffeine.newBuilder().expireAfterWrite(window).build();
+  }
+
+  public void recordWrite() {
+    String member = currentMember();
+    if (member != null) {
+      recentWriters.put(member, Boolean.TRUE);
+    }
+  }
+
+  public boolean requiresPrimary() {
+    String member = currentMember();
+    return member != null && recentWriters.getIfPresent(member) != null;
+  }
+
+  private static String currentMember() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication == null || !authentication.isAuthenticated()
+        ? null
+        : authentication.getName();
+  }
+}
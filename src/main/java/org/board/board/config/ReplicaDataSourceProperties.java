@@ -0,0 +1,20 @@
+package org.board.board.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 읽기 전용 복제본 설정.
+ *
+ * @param replicas 복제본 접속 정보. 비어 있으면 모든 요청이 {@code spring.datasource}로 간다.
+ * @param readYourWritesWindow 쓰기를 한 회원의 읽기를 주 DB로 보내는 시간. 복제 지연보다 길게 잡는다.
+ */
+@ConfigurationProperties(prefix = "board.datasource")
+public record ReplicaDataSourceProperties(
+    List<Replica> replicas, @DefaultValue("5s") Duration readYourWritesWindow) {
+
+  public record Replica(String url, String username, String password) {}
+}
@@ -0,0 +1,38 @@
+package org.board.board.config;
+
+import org.board.board.repository.BoardRepository;
+import org.board.board.service.BoardSearchEngine;
+import org.board.board.service.InMemoryBoardSearchEngine;
+import org.board.board.service.MysqlBoardSearchEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@Configuration
+public class SearchConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "board.search.engine", havingValue = "mysql", matchIfMissing = true)
+  public BoardSearchEngine mysqlBoardSearchEngine(
+      NamedParameterJdbcTemplate jdbcTemplate,
+      @Value("${board.list.preview-length:100}") int previewLength) {
+    return new MysqlBoardSearchEngine(jdbcTemplate, previewLength);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "board.search.engine", havingValue = "memory")
+  public BoardSearchEngine inMemoryBoardSearchEngine(
+      BoardRepository boardRepository,
+      @Value("${board.list.preview-length:100}") int previewLength) {
+    return new InMemoryBoardSearchEngine(boardRepository, previewLength);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildSearchIndex(ApplicationReadyEvent event) {
+    event.getApplicationContext().getBean(BoardSearchEngine.class).rebuild();
+  }
+}
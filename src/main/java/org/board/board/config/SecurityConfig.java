@@ -1,29 +1,53 @@
 package org.board.board.config;
 
+import java.time.Duration;
+
+import org.board.board.entity.MemberType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
   @Autowired private JwtAuthFilter jwtAuthFilter;
 
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  @Bean(destroyMethod = "shutdown")
+  public BoundedPasswordEncoder passwordEncoder(
+      MeterRegistry meterRegistry,
+      @Value("${password.hashing.threads:4}") int threads,
+      @Value("${password.hashing.queue-capacity:100}") int queueCapacity,
+      @Value("${password.hashing.max-wait:2s}") Duration maxWait,
+      @Value("${password.encoding.id:bcrypt}") String encodingId,
+      @Value("${password.encoding.target-hash-time:250ms}") Duration targetHashTime,
+      @Value("${password.encoding.calibrate:true}") boolean calibrate,
+      @Value("${password.encoding.pbkdf2-iterations:310000}") int pbkdf2Iterations) {
+    return new BoundedPasswordEncoder(
+        PasswordEncoderFactory.create(encodingId, targetHashTime, calibrate, pbkdf2Iterations),
+        threads,
+        queueCapacity,
+        maxWait,
+        meterRegistry);
   }
 
+  /**
+   * Actuator는 {@code management.server.port}의 별도 포트로만 제공되며(기본 127.0.0.1:8081), 인증 없이 허용하는 것도 그 포트로
+   * 들어온 요청뿐이다. 공개 포트에서는 다른 API와 같이 인증이 필요하다.
+   */
   @Bean
-  public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+  public SecurityFilterChain filterChain(
+      HttpSecurity http, @Value("${management.server.port:8081}") int managementPort)
+      throws Exception {
     http.csrf(csrf -> csrf.disable())
         .sessionManagement(
             session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -34,6 +58,12 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/api/test/public")
                     .permitAll()
+                    .requestMatchers(request -> request.getLocalPort() == managementPort)
+                    .permitAll()
+                    .requestMatchers(HttpMethod.POST, "/api/boards/bulk")
+                    .hasRole(MemberType.ADMIN.getValue())
+                    .requestMatchers(HttpMethod.GET, "/api/boards/export")
+                    .hasRole(MemberType.ADMIN.getValue())
                     .requestMatchers(
                         "/swagger-ui/**", "/v3/api-docs/**", "/api-docs/**", "/docs/**")
                     .permitAll()
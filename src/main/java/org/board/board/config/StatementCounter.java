@@ -0,0 +1,57 @@
+package org.board.board.config;
+
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * 데이터소스 프록시를 지나는 JDBC 실행 수와 실행 시간을 현재 스레드(요청) 단위로 누적한다. JPA뿐 아니라 JdbcTemplate으로 실행한 문장도
+ * 함께 센다. 배치 실행은 DB 왕복 한 번으로 센다.
+ */
+public class StatementCounter implements QueryExecutionListener {
+
+  private static final ThreadLocal<Usage> USAGE = ThreadLocal.withInitial(Usage::new);
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    Usage usage = USAGE.get();
+    usage.statements++;
+    usage.elapsedMillis += execInfo.getElapsedTime();
+  }
+
+  static void reset() {
+    USAGE.get().reset();
+  }
+
+  static Usage current() {
+    return USAGE.get();
+  }
+
+  static void clear() {
+    USAGE.remove();
+  }
+
+  static final class Usage {
+
+    private long statements;
+    private long elapsedMillis;
+
+    long statements() {
+      return statements;
+    }
+
+    long elapsedMillis() {
+      return elapsedMillis;
+    }
+
+    private void reset() {
+      statements = 0;
+      elapsedMillis = 0;
+    }
+  }
+}
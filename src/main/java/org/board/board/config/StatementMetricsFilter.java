@@ -0,0 +1,71 @@
+package org.board.board.config;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 요청마다 실행된 SQL 문 수와 DB 시간을 {@code http.server.requests.statements}, {@code
+ * http.server.requests.db}로 기록한다. {@code http.server.requests}와 같은 uri 태그를 달아, 느린 엔드포인트가 쿼리 수
+ * 때문인지 바로 비교할 수 있다. DEBUG 레벨에서는 요청별 수치를 로그로도 남긴다.
+ */
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+  private static final Logger log = LoggerFactory.getLogger(StatementMetricsFilter.class);
+
+  private final MeterRegistry meterRegistry;
+
+  public StatementMetricsFilter(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    StatementCounter.reset();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      StatementCounter.Usage usage = StatementCounter.current();
+      long statements = usage.statements();
+      long elapsedMillis = usage.elapsedMillis();
+      StatementCounter.clear();
+      record(request, statements, elapsedMillis);
+    }
+  }
+
+  private void record(HttpServletRequest request, long statements, long elapsedMillis) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+    DistributionSummary.builder("http.server.requests.statements")
+        .description("SQL statements executed per request")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry)
+        .record(statements);
+    Timer.builder("http.server.requests.db")
+        .description("Time spent executing SQL statements per request")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry)
+        .record(elapsedMillis, TimeUnit.MILLISECONDS);
+    log.debug(
+        "{} {} statements={} dbTime={}ms", request.getMethod(), uri, statements, elapsedMillis);
+  }
+}
@@ -1,5 +1,7 @@
 package org.board.board.controller;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import jakarta.validation.Valid;
 
 import org.board.board.dto.member.login.LoginRequest;
@@ -7,6 +9,7 @@ import org.board.board.dto.member.login.LoginResponse;
 import org.board.board.dto.member.signUp.SignupRequest;
 import org.board.board.dto.member.signUp.SignupResponse;
 import org.board.board.service.MemberService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,6 +28,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "인증 API", description = "회원가입 및 로그인 기능을 제공하는 API")
 public class AuthController {
 
+  private static final String RETRY_AFTER_SECONDS = "1";
+
   private final MemberService memberService;
 
   public AuthController(MemberService memberService) {
@@ -39,7 +44,8 @@ public class AuthController {
             description = "회원가입 성공",
             content = @Content(schema = @Schema(implementation = SignupResponse.class))),
         @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 중복된 username"),
-        @ApiResponse(responseCode = "500", description = "서버 오류")
+        @ApiResponse(responseCode = "500", description = "서버 오류"),
+        @ApiResponse(responseCode = "503", description = "비밀번호 처리 용량 초과")
       })
   @PostMapping("/sign-up")
   public ResponseEntity<SignupResponse> signup(
@@ -48,6 +54,10 @@ public class AuthController {
     try {
       SignupResponse response = memberService.signup(request);
       return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    } catch (RejectedExecutionException e) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+          .build();
     } catch (IllegalArgumentException e) {
       return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     } catch (Exception e) {
@@ -63,7 +73,8 @@ public class AuthController {
             description = "로그인 성공",
             content = @Content(schema = @Schema(implementation = LoginResponse.class))),
         @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 비밀번호 불일치"),
-        @ApiResponse(responseCode = "500", description = "서버 오류")
+        @ApiResponse(responseCode = "500", description = "서버 오류"),
+        @ApiResponse(responseCode = "503", description = "비밀번호 처리 용량 초과")
       })
   @PostMapping("/login")
   public ResponseEntity<LoginResponse> login(
@@ -72,6 +83,10 @@ public class AuthController {
     try {
       LoginResponse response = memberService.login(request);
       return ResponseEntity.ok(response);
+    } catch (RejectedExecutionException e) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+          .build();
     } catch (IllegalArgumentException e) {
       return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     } catch (Exception e) {
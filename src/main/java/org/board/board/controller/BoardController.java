@@ -1,19 +1,44 @@
 package org.board.board.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import org.board.board.dto.board.BoardCountMode;
 import org.board.board.dto.board.BoardCreateRequest;
 import org.board.board.dto.board.BoardCreateResponse;
+import org.board.board.dto.board.BoardCursorResponse;
+import org.board.board.dto.board.BoardDetailResponse;
+import org.board.board.dto.board.BoardExportFormat;
+import org.board.board.dto.board.BoardImportProgress;
+import org.board.board.dto.board.BoardImportRequest;
 import org.board.board.dto.board.BoardListResponse;
-import org.board.board.entity.Board;
+import org.board.board.dto.board.BoardPageResponse;
+import org.board.board.dto.board.BoardUpdateResponse;
+import org.board.board.exception.BoardAccessDeniedException;
+import org.board.board.exception.BoardNotFoundException;
+import org.board.board.exception.BoardVersionMismatchException;
+import org.board.board.service.BoardExportService;
+import org.board.board.service.BoardImportService;
 import org.board.board.service.BoardService;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,9 +54,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class BoardController {
 
   private final BoardService boardService;
+  private final BoardImportService boardImportService;
+  private final BoardExportService boardExportService;
+  private final ObjectMapper objectMapper;
 
-  public BoardController(BoardService boardService) {
+  public BoardController(
+      BoardService boardService,
+      BoardImportService boardImportService,
+      BoardExportService boardExportService,
+      ObjectMapper objectMapper) {
     this.boardService = boardService;
+    this.boardImportService = boardImportService;
+    this.boardExportService = boardExportService;
+    this.objectMapper = objectMapper;
   }
 
   @Operation(summary = "게시글 생성", description = "새로운 게시글을 생성합니다.")
@@ -63,21 +98,178 @@ public class BoardController {
     }
   }
 
-  @Operation(summary = "게시글 리스트", description = "게시글 목록을 불러옵니다.")
+  @Operation(
+      summary = "게시글 일괄 등록",
+      description =
+          "NDJSON(한 줄에 게시글 하나)으로 전달된 게시글을 배치 단위로 등록합니다. 관리자만 사용할 수 있으며,"
+              + " 배치가 커밋될 때마다 진행 상황을 NDJSON 한 줄로 응답하고 마지막 줄은 done=true입니다."
+              + " 형식이 잘못된 줄은 건너뛰고 줄 번호를 rejectedLines로 알려줍니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "일괄 등록 진행 상황",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = BoardImportProgress.class))),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "403", description = "관리자가 아님")
+      })
+  @io.swagger.v3.oas.annotations.parameters.RequestBody(
+      description = "게시글 목록 (NDJSON)",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+              schema = @Schema(implementation = BoardImportRequest.class)))
+  @PostMapping(
+      value = "/bulk",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void importBoards(
+      InputStream body, Authentication authentication, HttpServletResponse response)
+      throws IOException {
+    Long memberId = Long.parseLong(authentication.getName());
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    OutputStream out = response.getOutputStream();
+
+    BoardImportProgress result =
+        boardImportService.importBoards(body, memberId, progress -> writeProgress(out, progress));
+    writeProgress(out, result);
+  }
+
+  @Operation(
+      summary = "게시글 내보내기",
+      description =
+          "전체 게시글을 id 순서로 NDJSON 또는 CSV로 내려받습니다. 관리자만 사용할 수 있으며,"
+              + " 중단된 경우 마지막으로 받은 id를 afterId로 넘기면 이어서 받을 수 있습니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "게시글 내보내기 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "403", description = "관리자가 아님")
+      })
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportBoards(
+      @Parameter(description = "내보내기 형식 (NDJSON, CSV)")
+          @RequestParam(defaultValue = "NDJSON")
+          BoardExportFormat format,
+      @Parameter(description = "gzip 압축 여부") @RequestParam(defaultValue = "false") boolean gzip,
+      @Parameter(description = "이 id 이후의 게시글부터 내보냄")
+          @RequestParam(defaultValue = "0")
+          long afterId) {
+    String filename = "boards." + format.getExtension() + (gzip ? ".gz" : "");
+    StreamingResponseBody body = out -> boardExportService.export(format, afterId, gzip, out);
+
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_TYPE, gzip ? "application/gzip" : format.getMediaType())
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+        .body(body);
+  }
+
+  @Operation(
+      summary = "게시글 리스트",
+      description =
+          "게시글 목록을 불러옵니다. 기본(NONE)은 전체 개수 없이 다음 페이지 존재 여부만 반환하며,"
+              + " APPROXIMATE는 주기적으로 갱신되는 캐시 개수, EXACT는 COUNT 쿼리 결과를 포함합니다.")
   @ApiResponses(
       value = {
         @ApiResponse(
             responseCode = "200",
             description = "게시글 목록 불러오기 성공",
-            content = @Content(schema = @Schema(implementation = BoardListResponse.class))),
+            content = @Content(schema = @Schema(implementation = BoardPageResponse.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (조건부 요청)"),
         @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
       })
   @GetMapping
-  public ResponseEntity<Page<BoardListResponse>> getBoardList(final Pageable pageable) {
+  public ResponseEntity<BoardPageResponse> getBoardList(
+      final Pageable pageable,
+      @Parameter(description = "전체 개수 계산 방식 (NONE, APPROXIMATE, EXACT)")
+          @RequestParam(name = "count", defaultValue = "NONE")
+          BoardCountMode countMode,
+      WebRequest webRequest) {
+    try {
+      Slice<BoardListResponse> response = boardService.getBoardsList(pageable, countMode);
+      if (webRequest.checkNotModified(BoardETags.of(response))) {
+        return null;
+      }
+
+      return ResponseEntity.status(HttpStatus.OK)
+          .cacheControl(CacheControl.noCache())
+          .body(BoardPageResponse.from(response));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @Operation(
+      summary = "게시글 커서 리스트",
+      description = "커서 기반으로 최신순 게시글 목록을 불러옵니다. 전체 개수는 계산하지 않습니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "게시글 목록 불러오기 성공",
+            content = @Content(schema = @Schema(implementation = BoardCursorResponse.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (조건부 요청)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @GetMapping("/cursor")
+  public ResponseEntity<BoardCursorResponse> getBoardListByCursor(
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "페이지 크기 (1-100)") @RequestParam(defaultValue = "20") int size,
+      WebRequest webRequest) {
     try {
-      Page<BoardListResponse> response = boardService.getBoardsList(pageable);
+      BoardCursorResponse response = boardService.getBoardsByCursor(cursor, size);
+      if (webRequest.checkNotModified(BoardETags.of(response))) {
+        return null;
+      }
+
+      return ResponseEntity.status(HttpStatus.OK)
+          .cacheControl(CacheControl.noCache())
+          .body(response);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @Operation(
+      summary = "게시글 검색",
+      description =
+          "제목과 본문에서 검색어를 찾아 관련도순으로 게시글 목록을 불러옵니다."
+              + " 다음 페이지는 응답의 nextCursor로 조회합니다. 관련도는 조회할 때마다 다시 계산되므로,"
+              + " 페이지를 넘기는 사이 게시글이 추가·수정·삭제되면 경계의 결과가 빠지거나 반복될 수 있습니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "게시글 검색 성공",
+            content = @Content(schema = @Schema(implementation = BoardCursorResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 검색어, 커서 또는 페이지 크기"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @GetMapping("/search")
+  public ResponseEntity<BoardCursorResponse> searchBoards(
+      @Parameter(description = "검색어 (최대 100자)", required = true) @RequestParam String q,
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "페이지 크기 (1-100)") @RequestParam(defaultValue = "20") int size) {
+    try {
+      BoardCursorResponse response = boardService.searchBoards(q, cursor, size);
 
       return ResponseEntity.status(HttpStatus.OK).body(response);
     } catch (IllegalArgumentException e) {
@@ -87,26 +279,37 @@ public class BoardController {
     }
   }
 
-  @Operation(summary = "게시글 상세", description = "특정 게시글의 상세 정보를 불러옵니다.")
+  @Operation(
+      summary = "게시글 상세",
+      description =
+          "특정 게시글의 상세 정보를 불러옵니다. 조회수는 주기적으로 일괄 반영되므로 최근 조회분은 늦게 보일 수 있습니다.")
   @ApiResponses(
       value = {
         @ApiResponse(
             responseCode = "200",
             description = "게시글 상세 불러오기 성공",
-            content = @Content(schema = @Schema(implementation = Board.class))),
+            content = @Content(schema = @Schema(implementation = BoardDetailResponse.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (조건부 요청)"),
         @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
       })
   @GetMapping("/{id}")
-  public ResponseEntity<Board> getBoardById(@PathVariable Long id) {
+  public ResponseEntity<BoardDetailResponse> getBoardById(
+      @PathVariable Long id, WebRequest webRequest) {
     try {
-      Board response = boardService.getBoardById(id);
+      BoardDetailResponse response = boardService.getBoardById(id);
       if (response == null) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
       }
-      return ResponseEntity.status(HttpStatus.OK).body(response);
+      if (webRequest.checkNotModified(BoardETags.of(response))) {
+        return null;
+      }
+      boardService.recordView(id);
+      return ResponseEntity.status(HttpStatus.OK)
+          .cacheControl(CacheControl.noCache())
+          .body(response);
     } catch (IllegalArgumentException e) {
       return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     } catch (Exception e) {
@@ -114,30 +317,49 @@ public class BoardController {
     }
   }
 
-  @Operation(summary = "게시글 수정", description = "특정 게시글을 수정합니다.")
+  @Operation(
+      summary = "게시글 수정",
+      description =
+          "특정 게시글을 수정합니다. 상세 조회의 ETag를 If-Match로 보내면 그 사이 다른 수정이 있었을 때 412를 반환하며,"
+              + " 응답의 ETag와 version으로 새 버전을 알려줍니다.")
   @ApiResponses(
       value = {
         @ApiResponse(
             responseCode = "200",
             description = "게시글 수정 성공",
-            content = @Content(schema = @Schema(implementation = Board.class))),
+            content = @Content(schema = @Schema(implementation = BoardUpdateResponse.class))),
         @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "403", description = "게시글 작성자가 아님"),
         @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음"),
+        @ApiResponse(responseCode = "412", description = "If-Match 버전이 현재 버전과 다름"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
       })
   @PutMapping("/{id}")
-  public ResponseEntity<Board> updateBoard(
+  public ResponseEntity<BoardUpdateResponse> updateBoard(
       @PathVariable Long id,
+      @Parameter(description = "상세 조회 시 받은 ETag (쉼표로 여러 개를 보내면 하나라도 일치할 때 처리)")
+          @RequestHeader(name = HttpHeaders.IF_MATCH, required = false)
+          String ifMatch,
       @Parameter(description = "게시글 수정 정보", required = true) @Valid @RequestBody
           BoardCreateRequest request,
       Authentication authentication) {
     try {
       Long memberId = Long.parseLong(authentication.getName());
-      Board updatedBoard =
-          boardService.updateBoard(id, request.getTitle(), request.getContent(), memberId);
-      return ResponseEntity.ok(updatedBoard);
+      List<Long> expectedVersions = BoardETags.parseIfMatch(ifMatch, id);
+      BoardUpdateResponse updatedBoard =
+          boardService.updateBoard(
+              id, request.getTitle(), request.getContent(), memberId, expectedVersions);
+
+      return ResponseEntity.ok()
+          .eTag(BoardETags.of(id, updatedBoard.version()))
+          .body(updatedBoard);
+    } catch (BoardNotFoundException e) {
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    } catch (BoardAccessDeniedException e) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (BoardVersionMismatchException e) {
+      return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
     } catch (IllegalArgumentException e) {
       return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     } catch (Exception e) {
@@ -145,7 +367,9 @@ public class BoardController {
     }
   }
 
-  @Operation(summary = "게시글 삭제", description = "특정 게시글을 삭제합니다.")
+  @Operation(
+      summary = "게시글 삭제",
+      description = "특정 게시글을 삭제합니다. If-Match를 보내면 해당 버전일 때만 삭제합니다.")
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "204", description = "게시글 삭제 성공"),
@@ -153,18 +377,40 @@ public class BoardController {
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "403", description = "게시글 작성자가 아님"),
         @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음"),
+        @ApiResponse(responseCode = "412", description = "If-Match 버전이 현재 버전과 다름"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
       })
   @DeleteMapping("/{id}")
-  public ResponseEntity<Void> deleteBoard(@PathVariable Long id, Authentication authentication) {
+  public ResponseEntity<Void> deleteBoard(
+      @PathVariable Long id,
+      @Parameter(description = "상세 조회 시 받은 ETag (쉼표로 여러 개를 보내면 하나라도 일치할 때 처리)")
+          @RequestHeader(name = HttpHeaders.IF_MATCH, required = false)
+          String ifMatch,
+      Authentication authentication) {
     try {
       Long memberId = Long.parseLong(authentication.getName());
-      boardService.deleteBoard(id, memberId);
+      boardService.deleteBoard(id, memberId, BoardETags.parseIfMatch(ifMatch, id));
       return ResponseEntity.noContent().build();
+    } catch (BoardNotFoundException e) {
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    } catch (BoardAccessDeniedException e) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (BoardVersionMismatchException e) {
+      return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
     } catch (IllegalArgumentException e) {
       return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     } catch (Exception e) {
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
     }
   }
+
+  private void writeProgress(OutputStream out, BoardImportProgress progress) {
+    try {
+      out.write(objectMapper.writeValueAsBytes(progress));
+      out.write('\n');
+      out.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
@@ -0,0 +1,102 @@
+package org.board.board.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.board.board.dto.board.BoardCursorResponse;
+import org.board.board.dto.board.BoardDetailResponse;
+import org.board.board.dto.board.BoardListResponse;
+import org.board.board.exception.BoardVersionMismatchException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 게시글 응답의 강한 ETag를 만든다.
+ *
+ * <p>상세 응답의 조회수는 버전이나 수정일시를 바꾸지 않고 늘어나므로, 상세 ETag에 조회수를 포함하고 Last-Modified는 쓰지 않는다.
+ * 목록 ETag도 조회수를 포함한 응답 내용 전체의 다이제스트다.
+ *
+ * <p>응답 객체를 JSON으로 직렬화하기 전에 계산하므로, {@code WebRequest#checkNotModified}가 304를 결정하면 직렬화와
+ * 전송을 모두 건너뛴다.
+ */
+final class BoardETags {
+
+  private BoardETags() {}
+
+  static String of(BoardDetailResponse board) {
+    return "\"" + board.id() + "-" + board.version() + "-" + board.viewCount() + "\"";
+  }
+
+  static String of(Long id, long version) {
+    return "\"" + id + "-" + version + "\"";
+  }
+
+  /**
+   * If-Match 헤더에서 이 게시글의 기대 버전 목록을 꺼낸다. 헤더가 없거나 {@code *}이면 null을 반환한다. RFC 9110에 따라 쉼표로
+   * 구분한 여러 ETag 중 하나라도 일치하면 되므로, 이 게시글 형식인 ETag의 버전을 모두 모은다. 그런 ETag가 하나도 없으면 어떤
+   * 버전과도 일치할 수 없으므로 {@link BoardVersionMismatchException}을 던진다. 상세 ETag의 조회수 부분은 수정 조건과
+   * 무관하므로 무시한다.
+   *
+   * <p>Tomcat은 응답을 gzip으로 압축할 때 강한 ETag를 약한 ETag({@code W/})로 바꾼다. 버전은 압축과 무관하게 id와
+   * version만으로 정해지므로, 이 게시글 형식의 약한 ETag도 같은 버전으로 받아들인다.
+   */
+  static List<Long> parseIfMatch(String ifMatch, Long id) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+      return null;
+    }
+    List<Long> versions = new ArrayList<>();
+    for (String etag : ifMatch.split(",")) {
+      Long version = versionOf(etag.strip(), id);
+      if (version != null && !versions.contains(version)) {
+        versions.add(version);
+      }
+    }
+    if (versions.isEmpty()) {
+      throw new BoardVersionMismatchException();
+    }
+    return versions;
+  }
+
+  private static Long versionOf(String etag, Long id) {
+    String prefix = "\"" + id + "-";
+    if (etag.startsWith("W/")) {
+      etag = etag.substring(2);
+    }
+    if (!etag.startsWith(prefix) || !etag.endsWith("\"") || etag.length() <= prefix.length() + 1) {
+      return null;
+    }
+    String[] parts = etag.substring(prefix.length(), etag.length() - 1).split("-", -1);
+    if (parts.length > 2) {
+      return null;
+    }
+    try {
+      if (parts.length == 2) {
+        Long.parseLong(parts[1]);
+      }
+      return Long.parseLong(parts[0]);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  static String of(Slice<BoardListResponse> slice) {
+    String total = slice instanceof Page<?> page ? String.valueOf(page.getTotalElements()) : "";
+    return digest(join(slice.getContent()) + "|" + slice.hasNext() + "|" + total);
+  }
+
+  static String of(BoardCursorResponse response) {
+    return digest(join(response.boards()) + "|" + response.nextCursor());
+  }
+
+  private static String join(List<BoardListResponse> boards) {
+    StringBuilder source = new StringBuilder();
+    boards.forEach(board -> source.append(board).append('\n'));
+    return source.toString();
+  }
+
+  private static String digest(String source) {
+    return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+  }
+}
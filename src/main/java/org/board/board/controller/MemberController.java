@@ -1,6 +1,66 @@
 package org.board.board.controller;
 
-import org.springframework.web.bind.annotation.RestController;
+import org.board.board.dto.board.BoardCursorResponse;
+import org.board.board.service.BoardService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
 
 @RestController
-public class MemberController {}
+@RequestMapping("/api/members")
+@CrossOrigin(origins = "*")
+@Tag(name = "회원 API", description = "회원 관련 기능을 제공하는 API")
+public class MemberController {
+
+  private final BoardService boardService;
+
+  public MemberController(BoardService boardService) {
+    this.boardService = boardService;
+  }
+
+  @Operation(summary = "회원 게시글 리스트", description = "특정 회원이 작성한 게시글을 최신순으로 불러옵니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "게시글 목록 불러오기 성공",
+            content = @Content(schema = @Schema(implementation = BoardCursorResponse.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (조건부 요청)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @GetMapping("/{id}/boards")
+  public ResponseEntity<BoardCursorResponse> getMemberBoards(
+      @PathVariable Long id,
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "페이지 크기 (1-100)") @RequestParam(defaultValue = "20") int size,
+      WebRequest webRequest) {
+    try {
+      BoardCursorResponse response = boardService.getMemberBoardsByCursor(id, cursor, size);
+      if (webRequest.checkNotModified(BoardETags.of(response))) {
+        return null;
+      }
+
+      return ResponseEntity.status(HttpStatus.OK)
+          .cacheControl(CacheControl.noCache())
+          .body(response);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+}
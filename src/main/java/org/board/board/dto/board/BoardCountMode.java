@@ -0,0 +1,7 @@
+package org.board.board.dto.board;
+
+public enum BoardCountMode {
+  NONE,
+  APPROXIMATE,
+  EXACT
+}
@@ -0,0 +1,37 @@
+package org.board.board.dto.board;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record BoardCursor(LocalDateTime createdAt, Long id) {
+
+  private static final String DELIMITER = "_";
+
+  public static BoardCursor of(BoardListResponse board) {
+    return new BoardCursor(board.createdAt(), board.id());
+  }
+
+  public static BoardCursor decode(String token) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+      if (delimiterIndex < 0) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      return new BoardCursor(
+          LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+          Long.parseLong(decoded.substring(delimiterIndex + 1)));
+    } catch (DateTimeParseException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+  }
+
+  public String encode() {
+    String raw = createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
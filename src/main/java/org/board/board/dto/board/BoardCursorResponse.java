@@ -0,0 +1,11 @@
+package org.board.board.dto.board;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시글 커서 목록 응답 DTO")
+public record BoardCursorResponse(
+    @Schema(description = "게시글 목록") List<BoardListResponse> boards,
+    @Schema(description = "다음 페이지 커서", example = "MjAyNS0wMS0wMVQwMDowMDowMF8x") String nextCursor,
+    @Schema(description = "다음 페이지 존재 여부", example = "true") boolean hasNext) {}
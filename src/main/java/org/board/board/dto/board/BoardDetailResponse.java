@@ -0,0 +1,16 @@
+package org.board.board.dto.board;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시글 상세 응답")
+public record BoardDetailResponse(
+    @Schema(description = "게시글 ID", example = "1") Long id,
+    @Schema(description = "게시글 제목", example = "첫 번째 게시글") String title,
+    @Schema(description = "게시글 내용", example = "이것은 첫 번째 게시글의 내용입니다.") String content,
+    @Schema(description = "작성자 ID", example = "1") Long memberId,
+    @Schema(description = "조회수", example = "42") long viewCount,
+    @Schema(description = "버전 (수정 시 If-Match로 비교)", example = "1") long version,
+    @Schema(description = "작성일시", example = "2025-01-01T12:00:00") LocalDateTime createdAt,
+    @Schema(description = "수정일시", example = "2025-01-01T12:00:00") LocalDateTime updatedAt) {}
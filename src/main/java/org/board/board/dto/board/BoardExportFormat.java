@@ -0,0 +1,22 @@
+package org.board.board.dto.board;
+
+public enum BoardExportFormat {
+  NDJSON("application/x-ndjson", "ndjson"),
+  CSV("text/csv;charset=UTF-8", "csv");
+
+  private final String mediaType;
+  private final String extension;
+
+  BoardExportFormat(String mediaType, String extension) {
+    this.mediaType = mediaType;
+    this.extension = extension;
+  }
+
+  public String getMediaType() {
+    return mediaType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+}
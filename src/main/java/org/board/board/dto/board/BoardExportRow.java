@@ -0,0 +1,12 @@
+package org.board.board.dto.board;
+
+import java.time.LocalDateTime;
+
+public record BoardExportRow(
+    Long id,
+    String title,
+    String content,
+    Long memberId,
+    long viewCount,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt) {}
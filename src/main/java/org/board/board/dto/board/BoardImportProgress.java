@@ -0,0 +1,14 @@
+package org.board.board.dto.board;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시글 일괄 등록 진행 상황 (배치마다 NDJSON 한 줄)")
+public record BoardImportProgress(
+    @Schema(description = "커밋된 배치 번호", example = "1") long batch,
+    @Schema(description = "이번 배치에서 등록된 게시글 수", example = "1000") int inserted,
+    @Schema(description = "지금까지 등록된 게시글 수", example = "1000") long imported,
+    @Schema(description = "지금까지 거부된 줄 수", example = "0") long rejected,
+    @Schema(description = "이번 배치에서 거부된 줄 번호") List<Long> rejectedLines,
+    @Schema(description = "마지막 진행 상황 여부", example = "false") boolean done) {}
@@ -0,0 +1,14 @@
+package org.board.board.dto.board;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시글 일괄 등록 요청 (NDJSON 한 줄)")
+public record BoardImportRequest(
+    @Schema(description = "게시글 제목", example = "첫 번째 게시글", maxLength = 100) String title,
+    @Schema(description = "게시글 내용", example = "이것은 첫 번째 게시글의 내용입니다.", maxLength = 1000)
+        String content,
+    @Schema(description = "작성자 ID (생략 시 요청한 관리자)", example = "1") Long memberId,
+    @Schema(description = "작성일시 (생략 시 현재 시각)", example = "2020-01-01T12:00:00")
+        LocalDateTime createdAt) {}
@@ -1,5 +1,7 @@
 package org.board.board.dto.board;
 
+import java.time.LocalDateTime;
+
 import org.board.board.entity.Board;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -8,10 +10,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 public record BoardListResponse(
     @Schema(description = "게시글 ID", example = "1") Long id,
     @Schema(description = "게시글 제목", example = "첫 번째 게시글") String title,
-    @Schema(description = "게시글 내용", example = "이것은 첫 번째 게시글의 내용입니다.") String content,
-    @Schema(description = "작성자 ID", example = "1") Long memberId) {
+    @Schema(description = "게시글 내용 미리보기", example = "이것은 첫 번째 게시글의 내용입니다.") String content,
+    @Schema(description = "작성자 ID", example = "1") Long memberId,
+    @Schema(description = "작성일시", example = "2025-01-01T12:00:00") LocalDateTime createdAt,
+    @Schema(description = "조회수", example = "42") long viewCount) {
   public static BoardListResponse from(Board board) {
     return new BoardListResponse(
-        board.getId(), board.getTitle(), board.getContent(), board.getMemberId());
+        board.getId(),
+        board.getTitle(),
+        board.getContent(),
+        board.getMemberId(),
+        board.getCreatedAt(),
+        board.getViewCount());
   }
 }
@@ -0,0 +1,35 @@
+package org.board.board.dto.board;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 게시글 페이지 목록 응답. Spring Data의 PageImpl을 그대로 직렬화하면 pageable, sort 같은 중복 객체가 매번 함께 나가고 JSON 형태도
+ * 버전에 따라 바뀔 수 있어, 필요한 필드만 담는다.
+ */
+@Schema(description = "게시글 페이지 목록 응답 DTO")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BoardPageResponse(
+    @Schema(description = "게시글 목록") List<BoardListResponse> boards,
+    @Schema(description = "현재 페이지 번호 (0부터 시작)", example = "0") int page,
+    @Schema(description = "페이지 크기", example = "20") int size,
+    @Schema(description = "다음 페이지 번호 (마지막 페이지면 생략)", example = "1") Integer nextPage,
+    @Schema(description = "다음 페이지 존재 여부", example = "true") boolean hasNext,
+    @Schema(description = "전체 게시글 수 (count=APPROXIMATE, EXACT일 때만)", example = "1234")
+        Long totalElements) {
+
+  public static BoardPageResponse from(Slice<BoardListResponse> slice) {
+    return new BoardPageResponse(
+        slice.getContent(),
+        slice.getNumber(),
+        slice.getSize(),
+        slice.hasNext() ? slice.getNumber() + 1 : null,
+        slice.hasNext(),
+        slice instanceof Page<?> page ? page.getTotalElements() : null);
+  }
+}
@@ -0,0 +1,41 @@
+package org.board.board.dto.board;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 결과의 다음 페이지 위치. 관련도 점수는 {@link Double#doubleToLongBits}로 비트 그대로 담아, 디코딩한 값이 검색 엔진이
+ * 계산한 값과 정확히 같게 비교된다.
+ *
+ * <p>점수는 조회할 때마다 다시 계산되므로, 페이지 사이에 게시글이 추가·수정·삭제되면 경계의 결과가 빠지거나 반복될 수 있다.
+ */
+public record BoardSearchCursor(double score, Long id) {
+
+  private static final String DELIMITER = "_";
+
+  public static BoardSearchCursor decode(String token) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+      if (delimiterIndex < 0) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      return new BoardSearchCursor(
+          Double.longBitsToDouble(Long.parseLong(decoded.substring(0, delimiterIndex))),
+          Long.parseLong(decoded.substring(delimiterIndex + 1)));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+  }
+
+  public String encode() {
+    String raw = Double.doubleToLongBits(score) + DELIMITER + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public boolean isBefore(double otherScore, Long otherId) {
+    return otherScore < score || (otherScore == score && otherId < id);
+  }
+}
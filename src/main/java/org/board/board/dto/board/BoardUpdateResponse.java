@@ -0,0 +1,14 @@
+package org.board.board.dto.board;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시글 수정 응답")
+public record BoardUpdateResponse(
+    @Schema(description = "게시글 ID", example = "1") Long id,
+    @Schema(description = "게시글 제목", example = "수정된 제목") String title,
+    @Schema(description = "게시글 내용", example = "수정된 내용입니다.") String content,
+    @Schema(description = "작성자 ID", example = "1") Long memberId,
+    @Schema(description = "수정 후 버전 (다음 수정의 If-Match로 사용)", example = "2") long version,
+    @Schema(description = "수정일시", example = "2025-01-01T12:00:00") LocalDateTime updatedAt) {}
@@ -12,7 +12,15 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "board")
+@Table(
+    name = "board",
+    // 키셋 조회가 created_at desc, id desc로 정렬하므로 두 컬럼 모두 DESC여야 filesort 없이 인덱스 순서대로 읽는다
+    indexes = {
+      @Index(
+          name = "idx_board_member_created",
+          columnList = "member_id, created_at DESC, id DESC"),
+      @Index(name = "idx_board_created", columnList = "created_at DESC, id DESC")
+    })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,10 +34,20 @@ public class Board {
 
   private String content;
 
+  @Column(name = "member_id")
   private Long memberId;
 
+  // 수정/삭제는 BoardRepository의 조건부 UPDATE/DELETE가 직접 증가시키고 검사한다
+  @Version
+  @Column(nullable = false)
+  private long version;
+
+  // BoardViewCounter가 누적분을 직접 UPDATE하므로 엔티티 저장 시에는 덮어쓰지 않는다
+  @Column(name = "view_count", nullable = false, updatable = false)
+  private long viewCount;
+
   @CreationTimestamp
-  @Column(nullable = false, updatable = false)
+  @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
 
   @UpdateTimestamp
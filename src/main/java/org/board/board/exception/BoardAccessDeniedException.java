@@ -0,0 +1,8 @@
+package org.board.board.exception;
+
+public class BoardAccessDeniedException extends IllegalArgumentException {
+
+  public BoardAccessDeniedException() {
+    super("You are not the author of this post.");
+  }
+}
@@ -0,0 +1,8 @@
+package org.board.board.exception;
+
+public class BoardNotFoundException extends IllegalArgumentException {
+
+  public BoardNotFoundException() {
+    super("Board not found");
+  }
+}
@@ -0,0 +1,8 @@
+package org.board.board.exception;
+
+public class BoardVersionMismatchException extends IllegalArgumentException {
+
+  public BoardVersionMismatchException() {
+    super("Board version does not match");
+  }
+}
@@ -1,13 +1,121 @@
 package org.board.board.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.board.board.dto.board.BoardDetailResponse;
+import org.board.board.dto.board.BoardListResponse;
 import org.board.board.entity.Board;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
-  List<Board> findByMemberId(Long memberId);
+  String LIST_SELECT =
+      "select new org.board.board.dto.board.BoardListResponse("
+          + "b.id, b.title, substring(b.content, 1, :previewLength), b.memberId, b.createdAt,"
+          + " b.viewCount)"
+          + " from Board b";
+
+  String UPDATE_BY_AUTHOR =
+      "update Board b set b.title = :title, b.content = :content, b.updatedAt = :updatedAt,"
+          + " b.version = b.version + 1"
+          + " where b.id = :id and b.memberId = :memberId";
+
+  String DELETE_BY_AUTHOR = "delete from Board b where b.id = :id and b.memberId = :memberId";
+
+  /** 상세 조회는 엔티티를 영속성 컨텍스트에 올리지 않고 응답 레코드로 바로 읽는다. */
+  @Query(
+      "select new org.board.board.dto.board.BoardDetailResponse("
+          + "b.id, b.title, b.content, b.memberId, b.viewCount, b.version,"
+          + " b.createdAt, b.updatedAt)"
+          + " from Board b where b.id = :id")
+  Optional<BoardDetailResponse> findDetailById(@Param("id") Long id);
+
+  @Query(value = LIST_SELECT, countQuery = "select count(b) from Board b")
+  Page<BoardListResponse> findListPage(
+      @Param("previewLength") int previewLength, Pageable pageable);
+
+  @Query(LIST_SELECT)
+  Slice<BoardListResponse> findListSlice(
+      @Param("previewLength") int previewLength, Pageable pageable);
+
+  @Query(LIST_SELECT + " order by b.createdAt desc, b.id desc")
+  List<BoardListResponse> findLatest(@Param("previewLength") int previewLength, Pageable pageable);
+
+  @Query(
+      LIST_SELECT
+          + " where b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id)"
+          + " order by b.createdAt desc, b.id desc")
+  List<BoardListResponse> findLatestBefore(
+      @Param("previewLength") int previewLength,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  @Query(LIST_SELECT + " where b.memberId = :memberId order by b.createdAt desc, b.id desc")
+  List<BoardListResponse> findLatestByMember(
+      @Param("previewLength") int previewLength,
+      @Param("memberId") Long memberId,
+      Pageable pageable);
+
+  @Query(
+      LIST_SELECT
+          + " where b.memberId = :memberId"
+          + " and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))"
+          + " order by b.createdAt desc, b.id desc")
+  List<BoardListResponse> findLatestByMemberBefore(
+      @Param("previewLength") int previewLength,
+      @Param("memberId") Long memberId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  @Query("select b.version from Board b where b.id = :id")
+  Optional<Long> findVersionById(@Param("id") Long id);
+
+  @Modifying
+  @Transactional
+  @Query(UPDATE_BY_AUTHOR)
+  int updateIfAuthor(
+      @Param("id") Long id,
+      @Param("memberId") Long memberId,
+      @Param("title") String title,
+      @Param("content") String content,
+      @Param("updatedAt") LocalDateTime updatedAt);
+
+  /** If-Match에 나열된 버전 중 하나와 현재 버전이 같을 때만 수정한다. */
+  @Modifying
+  @Transactional
+  @Query(UPDATE_BY_AUTHOR + " and b.version in :versions")
+  int updateIfMatches(
+      @Param("id") Long id,
+      @Param("memberId") Long memberId,
+      @Param("versions") Collection<Long> versions,
+      @Param("title") String title,
+      @Param("content") String content,
+      @Param("updatedAt") LocalDateTime updatedAt);
+
+  @Modifying
+  @Transactional
+  @Query(DELETE_BY_AUTHOR)
+  int deleteIfAuthor(@Param("id") Long id, @Param("memberId") Long memberId);
+
+  @Modifying
+  @Transactional
+  @Query(DELETE_BY_AUTHOR + " and b.version in :versions")
+  int deleteIfMatches(
+      @Param("id") Long id,
+      @Param("memberId") Long memberId,
+      @Param("versions") Collection<Long> versions);
 }
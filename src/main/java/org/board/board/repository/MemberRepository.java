@@ -4,7 +4,11 @@ import java.util.Optional;
 
 import org.board.board.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -12,4 +16,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
   Optional<Member> findByUsername(String username);
 
   boolean existsByUsername(String username);
+
+  @Modifying
+  @Transactional
+  @Query(
+      "update Member m set m.password = :newPassword"
+          + " where m.id = :id and m.password = :oldPassword")
+  int updatePassword(
+      @Param("id") Long id,
+      @Param("oldPassword") String oldPassword,
+      @Param("newPassword") String newPassword);
 }
@@ -0,0 +1,32 @@
+package org.board.board.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.board.board.repository.BoardRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BoardCountCache {
+
+  private static final long NOT_LOADED = -1L;
+
+  private final BoardRepository boardRepository;
+  private final AtomicLong count = new AtomicLong(NOT_LOADED);
+
+  public BoardCountCache(BoardRepository boardRepository) {
+    this.boardRepository = boardRepository;
+  }
+
+  @Scheduled(fixedDelayString = "${board.list.count-refresh-interval:60000}")
+  public void refresh() {
+    count.set(boardRepository.count());
+  }
+
+  public long getApproximateCount() {
+    if (count.get() == NOT_LOADED) {
+      refresh();
+    }
+    return count.get();
+  }
+}
@@ -0,0 +1,179 @@
+package org.board.board.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+import org.board.board.dto.board.BoardExportFormat;
+import org.board.board.dto.board.BoardExportRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * board 테이블 전체를 id 순서로 내보낸다.
+ *
+ * <p>OFFSET 페이지 대신 하나의 forward-only 결과 집합을 fetch size 단위로 읽으면서 바로 출력에 쓰므로, 테이블 크기와
+ * 관계없이 메모리 사용량이 일정하다. MySQL에서는 fetch size를 {@link Integer#MIN_VALUE}로 주어 Connector/J의 행 단위
+ * 스트리밍을 쓴다. URL에 {@code useCursorFetch=true}를 두면 모든 문장이 서버 측 prepare로 바뀌어 앱 전체가 느려지므로
+ * 쓰지 않는다.
+ * 중단된 경우 마지막으로 받은 id를 {@code afterId}로 넘겨 이어서 받을 수 있다.
+ */
+@Service
+public class BoardExportService {
+
+  private static final String EXPORT_SQL =
+      "select id, title, content, member_id, view_count, created_at, updated_at"
+          + " from board where id > ? order by id";
+  private static final String CSV_HEADER =
+      "id,title,content,member_id,view_count,created_at,updated_at";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectWriter rowWriter;
+  private final int fetchSize;
+
+  public BoardExportService(
+      JdbcTemplate jdbcTemplate,
+      ObjectMapper objectMapper,
+      @Value("${board.export.fetch-size:1000}") int fetchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.rowWriter =
+        objectMapper
+            .writerFor(BoardExportRow.class)
+            .withRootValueSeparator((String) null)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.fetchSize = fetchSize;
+  }
+
+  public void export(BoardExportFormat format, long afterId, boolean gzip, OutputStream out)
+      throws IOException {
+    OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+    Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+    RowSink sink = format == BoardExportFormat.CSV ? new CsvSink(writer) : new NdjsonSink(writer);
+
+    try {
+      jdbcTemplate.query(
+          (Connection connection) -> {
+            PreparedStatement statement =
+                connection.prepareStatement(
+                    EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSizeFor(connection));
+            statement.setLong(1, afterId);
+            return statement;
+          },
+          (ResultSet rs) -> {
+            try {
+              sink.write(toRow(rs));
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    sink.finish();
+    writer.flush();
+    if (target instanceof GZIPOutputStream gzipStream) {
+      gzipStream.finish();
+    }
+    out.flush();
+  }
+
+  private int fetchSizeFor(Connection connection) throws SQLException {
+    return "MySQL".equals(connection.getMetaData().getDatabaseProductName())
+        ? Integer.MIN_VALUE
+        : fetchSize;
+  }
+
+  private static BoardExportRow toRow(ResultSet rs) throws SQLException {
+    return new BoardExportRow(
+        rs.getLong("id"),
+        rs.getString("title"),
+        rs.getString("content"),
+        rs.getLong("member_id"),
+        rs.getLong("view_count"),
+        rs.getObject("created_at", LocalDateTime.class),
+        rs.getObject("updated_at", LocalDateTime.class));
+  }
+
+  private interface RowSink {
+
+    void write(BoardExportRow row) throws IOException;
+
+    default void finish() throws IOException {}
+  }
+
+  private final class NdjsonSink implements RowSink {
+
+    private final JsonGenerator generator;
+
+    private NdjsonSink(Writer writer) throws IOException {
+      this.generator = rowWriter.createGenerator(writer);
+    }
+
+    @Override
+    public void write(BoardExportRow row) throws IOException {
+      rowWriter.writeValue(generator, row);
+      generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+      generator.flush();
+    }
+  }
+
+  private static final class CsvSink implements RowSink {
+
+    private final Writer writer;
+
+    private CsvSink(Writer writer) throws IOException {
+      this.writer = writer;
+      writer.write(CSV_HEADER);
+      writer.write("\r\n");
+    }
+
+    @Override
+    public void write(BoardExportRow row) throws IOException {
+      writer.write(String.valueOf(row.id()));
+      writer.write(',');
+      writeQuoted(row.title());
+      writer.write(',');
+      writeQuoted(row.content());
+      writer.write(',');
+      writer.write(String.valueOf(row.memberId()));
+      writer.write(',');
+      writer.write(String.valueOf(row.viewCount()));
+      writer.write(',');
+      writer.write(String.valueOf(row.createdAt()));
+      writer.write(',');
+      writer.write(String.valueOf(row.updatedAt()));
+      writer.write("\r\n");
+    }
+
+    private void writeQuoted(String value) throws IOException {
+      if (value == null) {
+        return;
+      }
+      writer.write('"');
+      writer.write(value.replace("\"", "\"\""));
+      writer.write('"');
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package org.board.board.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.board.board.dto.board.BoardImportProgress;
+import org.board.board.dto.board.BoardImportRequest;
+import org.board.board.entity.Board;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * NDJSON으로 전달된 게시글을 JPA를 거치지 않고 JDBC 배치 INSERT로 등록한다.
+ *
+ * <p>{@code Board.id}가 IDENTITY 전략이라 Hibernate는 INSERT를 배치로 묶지 못하므로 {@link
+ * JdbcTemplate#batchUpdate}로 직접 묶는다. 요청 본문은 한 줄씩 읽어 배치 크기만큼만 메모리에 두며, 배치마다 별도
+ * 트랜잭션으로 커밋한 뒤 진행 상황을 알린다. 중간에 실패하면 이미 커밋된 배치는 남는다.
+ *
+ * <p>커밋된 배치의 행은 생성된 키로 검색 엔진에 하나씩 색인한다. 테이블 전체를 다시 색인하지 않으므로 작은 가져오기도 배치
+ * 크기에 비례한 비용만 든다.
+ */
+@Service
+public class BoardImportService {
+
+  private static final String INSERT_SQL =
+      "insert into board (title, content, member_id, view_count, version, created_at, updated_at)"
+          + " values (?, ?, ?, 0, 0, ?, ?)";
+  private static final int TITLE_MAX_LENGTH = 100;
+  private static final int CONTENT_MAX_LENGTH = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final BoardSearchEngine boardSearchEngine;
+  private final int batchSize;
+
+  public BoardImportService(
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      ObjectMapper objectMapper,
+      BoardSearchEngine boardSearchEngine,
+      @Value("${board.bulk-import.batch-size:1000}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.objectMapper = objectMapper;
+    this.boardSearchEngine = boardSearchEngine;
+    this.batchSize = batchSize;
+  }
+
+  public BoardImportProgress importBoards(
+      InputStream body, Long memberId, Consumer<BoardImportProgress> progressListener)
+      throws IOException {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    List<BoardImportRequest> batch = new ArrayList<>(batchSize);
+    List<Long> rejectedLines = new ArrayList<>();
+    long batchNumber = 0;
+    long imported = 0;
+    long rejected = 0;
+    long lineNumber = 0;
+
+    String line;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (line.isBlank()) {
+        continue;
+      }
+      BoardImportRequest request = parse(line);
+      if (request == null) {
+        rejected++;
+        rejectedLines.add(lineNumber);
+        continue;
+      }
+      batch.add(request);
+
+      if (batch.size() == batchSize) {
+        int inserted = insert(batch, memberId);
+        imported += inserted;
+        progressListener.accept(
+            new BoardImportProgress(
+                ++batchNumber, inserted, imported, rejected, List.copyOf(rejectedLines), false));
+        batch.clear();
+        rejectedLines.clear();
+      }
+    }
+
+    int inserted = batch.isEmpty() ? 0 : insert(batch, memberId);
+    imported += inserted;
+    if (!batch.isEmpty()) {
+      batchNumber++;
+    }
+    return new BoardImportProgress(
+        batchNumber, inserted, imported, rejected, List.copyOf(rejectedLines), true);
+  }
+
+  private BoardImportRequest parse(String line) {
+    BoardImportRequest request;
+    try {
+      request = objectMapper.readValue(line, BoardImportRequest.class);
+    } catch (JsonProcessingException e) {
+      return null;
+    }
+    if (request == null
+        || request.title() == null
+        || request.title().isBlank()
+        || request.title().length() > TITLE_MAX_LENGTH
+        || request.content() == null
+        || request.content().isBlank()
+        || request.content().length() > CONTENT_MAX_LENGTH) {
+      return null;
+    }
+    return request;
+  }
+
+  private int insert(List<BoardImportRequest> batch, Long memberId) {
+    LocalDateTime now = LocalDateTime.now();
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    transactionTemplate.executeWithoutResult(
+        status ->
+            jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                  @Override
+                  public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    BoardImportRequest request = batch.get(i);
+                    ps.setString(1, request.title());
+                    ps.setString(2, request.content());
+                    ps.setLong(3, authorOf(request, memberId));
+                    ps.setTimestamp(4, Timestamp.valueOf(createdAtOf(request, now)));
+                    ps.setTimestamp(5, Timestamp.valueOf(now));
+                  }
+
+                  @Override
+                  public int getBatchSize() {
+                    return batch.size();
+                  }
+                },
+                keyHolder));
+
+    List<Map<String, Object>> keys = keyHolder.getKeyList();
+    for (int i = 0; i < keys.size() && i < batch.size(); i++) {
+      BoardImportRequest request = batch.get(i);
+      Board board = new Board(request.title(), request.content(), authorOf(request, memberId));
+      board.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+      board.setCreatedAt(createdAtOf(request, now));
+      boardSearchEngine.index(board);
+    }
+    return batch.size();
+  }
+
+  private static Long authorOf(BoardImportRequest request, Long memberId) {
+    return request.memberId() == null ? memberId : request.memberId();
+  }
+
+  private static LocalDateTime createdAtOf(BoardImportRequest request, LocalDateTime now) {
+    return request.createdAt() == null ? now : request.createdAt();
+  }
+}
@@ -0,0 +1,19 @@
+package org.board.board.service;
+
+import java.util.List;
+
+import org.board.board.dto.board.BoardSearchCursor;
+import org.board.board.entity.Board;
+
+public interface BoardSearchEngine {
+
+  List<BoardSearchHit> search(String query, BoardSearchCursor after, int limit);
+
+  default void index(Board board) {}
+
+  default void update(Long id, String title, String content) {}
+
+  default void remove(Long id) {}
+
+  default void rebuild() {}
+}
@@ -0,0 +1,5 @@
+package org.board.board.service;
+
+import org.board.board.dto.board.BoardListResponse;
+
+public record BoardSearchHit(BoardListResponse board, double score) {}
@@ -1,30 +1,67 @@
 package org.board.board.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.BiFunction;
 
+import org.board.board.config.CacheConfig;
+import org.board.board.config.ReadWriteRoutingDataSource;
+import org.board.board.dto.board.BoardCountMode;
 import org.board.board.dto.board.BoardCreateRequest;
 import org.board.board.dto.board.BoardCreateResponse;
+import org.board.board.dto.board.BoardCursor;
+import org.board.board.dto.board.BoardCursorResponse;
+import org.board.board.dto.board.BoardDetailResponse;
 import org.board.board.dto.board.BoardListResponse;
+import org.board.board.dto.board.BoardSearchCursor;
+import org.board.board.dto.board.BoardUpdateResponse;
 import org.board.board.entity.Board;
+import org.board.board.exception.BoardAccessDeniedException;
+import org.board.board.exception.BoardNotFoundException;
+import org.board.board.exception.BoardVersionMismatchException;
 import org.board.board.repository.BoardRepository;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
 
 @Service
+@Timed(value = "board.service", percentiles = {0.5, 0.95, 0.99})
 public class BoardService {
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
+  private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+
   private final BoardRepository boardRepository;
+  private final BoardCountCache boardCountCache;
+  private final BoardSearchEngine boardSearchEngine;
+  private final BoardViewCounter boardViewCounter;
+  private final int previewLength;
 
-  public BoardService(BoardRepository boardRepository) {
+  public BoardService(
+      BoardRepository boardRepository,
+      BoardCountCache boardCountCache,
+      BoardSearchEngine boardSearchEngine,
+      BoardViewCounter boardViewCounter,
+      @Value("${board.list.preview-length:100}") int previewLength) {
     this.boardRepository = boardRepository;
+    this.boardCountCache = boardCountCache;
+    this.boardSearchEngine = boardSearchEngine;
+    this.boardViewCounter = boardViewCounter;
+    this.previewLength = previewLength;
   }
 
   public BoardCreateResponse createBoard(BoardCreateRequest request, Long memberId) {
     Board board = new Board(request.getTitle(), request.getContent(), memberId);
 
     Board savedBoard = boardRepository.save(board);
+    boardSearchEngine.index(savedBoard);
 
     return new BoardCreateResponse(
         savedBoard.getId(),
@@ -33,40 +70,160 @@ public class BoardService {
         savedBoard.getMemberId());
   }
 
-  public Board getBoardById(Long id) {
-    return boardRepository.findById(id).orElse(null);
+  @Cacheable(
+      cacheNames = CacheConfig.BOARDS,
+      key = "#id",
+      condition = "#id != null",
+      unless = "#result == null")
+  @Transactional(readOnly = true)
+  public BoardDetailResponse getBoardById(Long id) {
+    // 캐시를 채우는 조회라 복제본의 지연된 행이 캐시에 남지 않도록 주 DB에서 읽는다
+    return ReadWriteRoutingDataSource.readFromPrimary(
+        () -> boardRepository.findDetailById(id).orElse(null));
+  }
+
+  public void recordView(Long id) {
+    boardViewCounter.increment(id);
   }
 
-  public Page<BoardListResponse> getBoardsList(Pageable pageable) {
-    Page<Board> boardPage = boardRepository.findAll(pageable);
+  @Transactional(readOnly = true)
+  public Slice<BoardListResponse> getBoardsList(Pageable pageable, BoardCountMode countMode) {
+    if (countMode == BoardCountMode.EXACT) {
+      return boardRepository.findListPage(previewLength, pageable);
+    }
 
-    List<BoardListResponse> boardListResponses =
-        boardPage.getContent().stream().map(BoardListResponse::from).collect(Collectors.toList());
+    Slice<BoardListResponse> boardSlice = boardRepository.findListSlice(previewLength, pageable);
 
-    return new PageImpl<>(boardListResponses, pageable, boardPage.getTotalElements());
+    if (countMode == BoardCountMode.APPROXIMATE) {
+      return new PageImpl<>(
+          boardSlice.getContent(), pageable, boardCountCache.getApproximateCount());
+    }
+    return boardSlice;
   }
 
-  public Board updateBoard(Long id, String title, String content, Long memberId) {
-    Board board =
-        boardRepository
-            .findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("Board not found"));
-    if (!board.getMemberId().equals(memberId)) {
-      throw new IllegalArgumentException("You are not the author of this post.");
+  @Transactional(readOnly = true)
+  public BoardCursorResponse getBoardsByCursor(String cursor, int size) {
+    return findByCursor(
+        cursor,
+        size,
+        (after, limit) ->
+            after == null
+                ? boardRepository.findLatest(previewLength, limit)
+                : boardRepository.findLatestBefore(
+                    previewLength, after.createdAt(), after.id(), limit));
+  }
+
+  @Transactional(readOnly = true)
+  public BoardCursorResponse getMemberBoardsByCursor(Long memberId, String cursor, int size) {
+    return findByCursor(
+        cursor,
+        size,
+        (after, limit) ->
+            after == null
+                ? boardRepository.findLatestByMember(previewLength, memberId, limit)
+                : boardRepository.findLatestByMemberBefore(
+                    previewLength, memberId, after.createdAt(), after.id(), limit));
+  }
+
+  @Transactional(readOnly = true)
+  public BoardCursorResponse searchBoards(String query, String cursor, int size) {
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("Search query must not be blank");
+    }
+    if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+      throw new IllegalArgumentException(
+          "Search query must be at most " + MAX_SEARCH_QUERY_LENGTH + " characters");
+    }
+    validatePageSize(size);
+
+    BoardSearchCursor after =
+        cursor == null || cursor.isBlank() ? null : BoardSearchCursor.decode(cursor);
+    List<BoardSearchHit> hits = boardSearchEngine.search(query.strip(), after, size + 1);
+
+    boolean hasNext = hits.size() > size;
+    List<BoardSearchHit> pageHits = hasNext ? hits.subList(0, size) : hits;
+    String nextCursor = null;
+    if (hasNext) {
+      BoardSearchHit last = pageHits.get(pageHits.size() - 1);
+      nextCursor = new BoardSearchCursor(last.score(), last.board().id()).encode();
+    }
+
+    return new BoardCursorResponse(
+        pageHits.stream().map(BoardSearchHit::board).toList(), nextCursor, hasNext);
+  }
+
+  /**
+   * 작성자 확인과 버전 비교를 WHERE 조건에 넣은 한 번의 UPDATE로 수정한다. 영향받은 행이 없을 때만 게시글을 다시 읽어 실패
+   * 원인(없음, 작성자 아님, 버전 불일치)을 구분한다.
+   *
+   * <p>If-Match의 버전이 하나면 새 버전은 그 버전 + 1이다. 그 밖의 경우에는 같은 트랜잭션 안에서 새 버전을 다시 읽어, 수정
+   * 직후 다른 수정이 끼어들어도 이 수정이 만든 버전을 반환한다.
+   *
+   * @param expectedVersions If-Match로 전달된 버전 목록. 그중 하나와 같으면 수정하며, null이면 버전을 비교하지 않는다.
+   */
+  @CacheEvict(cacheNames = CacheConfig.BOARDS, key = "#id", condition = "#id != null")
+  @Transactional
+  public BoardUpdateResponse updateBoard(
+      Long id, String title, String content, Long memberId, List<Long> expectedVersions) {
+    LocalDateTime updatedAt = LocalDateTime.now();
+    int updated =
+        expectedVersions == null
+            ? boardRepository.updateIfAuthor(id, memberId, title, content, updatedAt)
+            : boardRepository.updateIfMatches(
+                id, memberId, expectedVersions, title, content, updatedAt);
+    if (updated == 0) {
+      throw modificationFailure(id, memberId);
+    }
+    boardSearchEngine.update(id, title, content);
+
+    long version =
+        expectedVersions != null && expectedVersions.size() == 1
+            ? expectedVersions.get(0) + 1
+            : boardRepository.findVersionById(id).orElseThrow(BoardNotFoundException::new);
+    return new BoardUpdateResponse(id, title, content, memberId, version, updatedAt);
+  }
+
+  @CacheEvict(cacheNames = CacheConfig.BOARDS, key = "#id", condition = "#id != null")
+  public void deleteBoard(Long id, Long memberId, List<Long> expectedVersions) {
+    int deleted =
+        expectedVersions == null
+            ? boardRepository.deleteIfAuthor(id, memberId)
+            : boardRepository.deleteIfMatches(id, memberId, expectedVersions);
+    if (deleted == 0) {
+      throw modificationFailure(id, memberId);
+    }
+    boardSearchEngine.remove(id);
+  }
+
+  private BoardCursorResponse findByCursor(
+      String cursor, int size, BiFunction<BoardCursor, Pageable, List<BoardListResponse>> query) {
+    validatePageSize(size);
+
+    BoardCursor after = cursor == null || cursor.isBlank() ? null : BoardCursor.decode(cursor);
+    List<BoardListResponse> boards = query.apply(after, PageRequest.ofSize(size + 1));
+
+    boolean hasNext = boards.size() > size;
+    List<BoardListResponse> pageBoards = hasNext ? boards.subList(0, size) : boards;
+    String nextCursor =
+        hasNext ? BoardCursor.of(pageBoards.get(pageBoards.size() - 1)).encode() : null;
+
+    return new BoardCursorResponse(List.copyOf(pageBoards), nextCursor, hasNext);
+  }
+
+  private void validatePageSize(int size) {
+    if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+      throw new IllegalArgumentException("size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
     }
-    board.setTitle(title);
-    board.setContent(content);
-    return boardRepository.save(board);
   }
 
-  public void deleteBoard(Long id, Long memberId) {
-    Board board =
-        boardRepository
-            .findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("Board not found"));
+  private IllegalArgumentException modificationFailure(Long id, Long memberId) {
+    Board board = boardRepository.findById(id).orElse(null);
+    if (board == null) {
+      return new BoardNotFoundException();
+    }
     if (!board.getMemberId().equals(memberId)) {
-      throw new IllegalArgumentException("You are not the author of this post.");
+      return new BoardAccessDeniedException();
     }
-    boardRepository.deleteById(id);
+    return new BoardVersionMismatchException();
   }
 }
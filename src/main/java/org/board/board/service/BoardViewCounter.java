@@ -0,0 +1,114 @@
+package org.board.board.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PreDestroy;
+
+import org.board.board.config.CacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 조회수를 메모리의 {@link LongAdder}에 누적했다가 주기적으로 한 번의 배치 UPDATE로 반영한다.
+ *
+ * <p>조회마다 같은 행을 UPDATE하면 인기 게시글의 행 잠금에서 요청이 직렬화되므로, 조회 경로에서는 DB에 쓰지 않는다.
+ *
+ * <p>유실 한도: 프로세스가 비정상 종료되면 마지막 반영 이후의 누적분, 즉 최대 {@code
+ * board.view-count.flush-interval} 동안의 조회수가 유실된다. 한 번의 반영은 하나의 트랜잭션이라 실패하면 전부 롤백되고,
+ * 누적분을 되돌려 다음 주기에 다시 시도하므로 중복 반영은 없다. DB 장애가 이어지는 동안에는 장애 시간만큼의 조회수가 유실 한도에
+ * 더해진다. 또한 한 주기 동안 조회가 없던 게시글의 항목을 정리하는 순간에 동시에 들어온 조회는 유실될 수 있다(드물게 게시글당 몇
+ * 건). 정상 종료 시에는 남은 누적분을 반영한다.
+ *
+ * <p>반영에 성공하면 해당 게시글의 상세 캐시({@link CacheConfig#BOARDS})를 비워, 상세 응답과 그 ETag의 조회수가 캐시 만료까지
+ * 늦어지지 않고 최대 한 반영 주기만큼만 늦게 한다.
+ */
+@Component
+public class BoardViewCounter {
+
+  private static final Logger log = LoggerFactory.getLogger(BoardViewCounter.class);
+
+  private static final String INCREMENT_SQL =
+      "update board set view_count = view_count + ? where id = ?";
+  private static final int BATCH_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final CacheManager cacheManager;
+  private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+  public BoardViewCounter(
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      CacheManager cacheManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.cacheManager = cacheManager;
+  }
+
+  public void increment(Long boardId) {
+    pending.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+  }
+
+  @Scheduled(fixedDelayString = "${board.view-count.flush-interval:5000}")
+  public void flush() {
+    List<long[]> increments = new ArrayList<>();
+    pending.forEach(
+        (boardId, adder) -> {
+          long delta = adder.sumThenReset();
+          if (delta > 0) {
+            increments.add(new long[] {boardId, delta});
+          } else {
+            // 한 주기 동안 조회가 없던 게시글은 정리한다 (정리 순간에 들어온 조회는 유실될 수 있다)
+            pending.remove(boardId, adder);
+          }
+        });
+    if (increments.isEmpty()) {
+      return;
+    }
+
+    // 여러 인스턴스가 동시에 반영할 때 잠금 순서를 맞춰 교착을 피한다
+    increments.sort(Comparator.comparingLong(increment -> increment[0]));
+    try {
+      // 배치 청크마다 자동 커밋되면 뒤 청크가 실패했을 때 이미 커밋된 청크까지 되돌려 중복 반영하므로 한 트랜잭션으로 묶는다
+      transactionTemplate.executeWithoutResult(
+          status ->
+              jdbcTemplate.batchUpdate(
+                  INCREMENT_SQL,
+                  increments,
+                  BATCH_SIZE,
+                  (ps, increment) -> {
+                    ps.setLong(1, increment[1]);
+                    ps.setLong(2, increment[0]);
+                  }));
+    } catch (DataAccessException | TransactionException e) {
+      log.warn("Failed to flush {} view count increments, retrying later", increments.size(), e);
+      increments.forEach(
+          increment ->
+              pending.computeIfAbsent(increment[0], id -> new LongAdder()).add(increment[1]));
+      return;
+    }
+
+    Cache boards = cacheManager.getCache(CacheConfig.BOARDS);
+    if (boards != null) {
+      increments.forEach(increment -> boards.evict(increment[0]));
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flush();
+  }
+}
@@ -0,0 +1,184 @@
+package org.board.board.service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.board.board.dto.board.BoardListResponse;
+import org.board.board.dto.board.BoardSearchCursor;
+import org.board.board.entity.Board;
+import org.board.board.repository.BoardRepository;
+
+/**
+ * MySQL FULLTEXT 인덱스를 사용할 수 없는 환경(H2 테스트, 부하 테스트)을 위한 메모리 역색인.
+ *
+ * <p>MySQL ngram 파서의 기본값(ngram_token_size=2)과 같이 공백/구두점으로 나눈 토큰을 2-gram으로 색인하고,
+ * TF-IDF 합으로 점수를 매긴다. 점수 값 자체는 MySQL과 다르지만 정렬과 커서 규칙은 같다.
+ */
+public class InMemoryBoardSearchEngine implements BoardSearchEngine {
+
+  private static final int NGRAM_SIZE = 2;
+
+  private static final Comparator<BoardSearchHit> RANKING =
+      Comparator.comparingDouble(BoardSearchHit::score)
+          .thenComparing(hit -> hit.board().id())
+          .reversed();
+
+  private final BoardRepository boardRepository;
+  private final int previewLength;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+  private final Map<Long, IndexedBoard> documents = new HashMap<>();
+
+  public InMemoryBoardSearchEngine(BoardRepository boardRepository, int previewLength) {
+    this.boardRepository = boardRepository;
+    this.previewLength = previewLength;
+  }
+
+  @Override
+  public List<BoardSearchHit> search(String query, BoardSearchCursor after, int limit) {
+    Map<String, Integer> queryTerms = termFrequencies(query);
+    Map<Long, Double> scores = new HashMap<>();
+
+    lock.readLock().lock();
+    try {
+      int documentCount = documents.size();
+      for (String term : queryTerms.keySet()) {
+        Map<Long, Integer> posting = postings.get(term);
+        if (posting == null) {
+          continue;
+        }
+        double idf = Math.log(1.0 + (double) documentCount / posting.size());
+        posting.forEach((id, frequency) -> scores.merge(id, frequency * idf, Double::sum));
+      }
+
+      return scores.entrySet().stream()
+          .map(entry -> new BoardSearchHit(documents.get(entry.getKey()).board(), entry.getValue()))
+          .filter(hit -> after == null || after.isBefore(hit.score(), hit.board().id()))
+          .sorted(RANKING)
+          .limit(limit)
+          .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void index(Board board) {
+    put(
+        board.getId(),
+        board.getTitle(),
+        board.getContent(),
+        board.getMemberId(),
+        board.getCreatedAt(),
+        board.getViewCount());
+  }
+
+  @Override
+  public void update(Long id, String title, String content) {
+    IndexedBoard previous;
+    lock.readLock().lock();
+    try {
+      previous = documents.get(id);
+    } finally {
+      lock.readLock().unlock();
+    }
+    if (previous != null) {
+      BoardListResponse board = previous.board();
+      put(id, title, content, board.memberId(), board.createdAt(), board.viewCount());
+    }
+  }
+
+  @Override
+  public void remove(Long id) {
+    lock.writeLock().lock();
+    try {
+      unindex(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void rebuild() {
+    lock.writeLock().lock();
+    try {
+      postings.clear();
+      documents.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+    boardRepository.findAll().forEach(this::index);
+  }
+
+  private void put(
+      Long id,
+      String title,
+      String content,
+      Long memberId,
+      LocalDateTime createdAt,
+      long viewCount) {
+    Map<String, Integer> terms = termFrequencies(title + " " + content);
+    String preview =
+        content == null || content.length() <= previewLength
+            ? content
+            : content.substring(0, previewLength);
+    BoardListResponse summary =
+        new BoardListResponse(id, title, preview, memberId, createdAt, viewCount);
+
+    lock.writeLock().lock();
+    try {
+      unindex(id);
+      documents.put(id, new IndexedBoard(summary, terms));
+      terms.forEach(
+          (term, frequency) ->
+              postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, frequency));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  static Map<String, Integer> termFrequencies(String text) {
+    Map<String, Integer> frequencies = new HashMap<>();
+    if (text == null) {
+      return frequencies;
+    }
+    for (String token : text.toLowerCase(Locale.ROOT).split("[\\p{Punct}\\s]+")) {
+      if (token.isEmpty()) {
+        continue;
+      }
+      if (token.length() < NGRAM_SIZE) {
+        frequencies.merge(token, 1, Integer::sum);
+        continue;
+      }
+      for (int i = 0; i + NGRAM_SIZE <= token.length(); i++) {
+        frequencies.merge(token.substring(i, i + NGRAM_SIZE), 1, Integer::sum);
+      }
+    }
+    return frequencies;
+  }
+
+  private void unindex(Long id) {
+    IndexedBoard previous = documents.remove(id);
+    if (previous == null) {
+      return;
+    }
+    for (String term : previous.terms().keySet()) {
+      Map<Long, Integer> posting = postings.get(term);
+      if (posting != null) {
+        posting.remove(id);
+        if (posting.isEmpty()) {
+          postings.remove(term);
+        }
+      }
+    }
+  }
+
+  private record IndexedBoard(BoardListResponse board, Map<String, Integer> terms) {}
+}
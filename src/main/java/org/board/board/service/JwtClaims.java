@@ -0,0 +1,7 @@
+package org.board.board.service;
+
+import java.time.Instant;
+
+import org.board.board.entity.MemberType;
+
+public record JwtClaims(Long id, MemberType type, Instant expiresAt) {}
@@ -1,5 +1,6 @@
 package org.board.board.service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
 import javax.crypto.SecretKey;
@@ -9,20 +10,22 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
 @Service
 public class JwtService {
 
-  @Value("${jwt.secret}")
-  private String secret;
+  private final SecretKey signingKey;
+  private final JwtParser jwtParser;
+  private final long expiration;
 
-  @Value("${jwt.expiration}")
-  private Long expiration;
-
-  private SecretKey getSigningKey() {
-    return Keys.hmacShaKeyFor(secret.getBytes());
+  public JwtService(
+      @Value("${jwt.secret}") String secret, @Value("${jwt.expiration}") long expiration) {
+    this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+    this.expiration = expiration;
   }
 
   public String generateToken(Long id, MemberType type) {
@@ -34,26 +37,32 @@ public class JwtService {
         .claim("type", type.getValue())
         .issuedAt(now)
         .expiration(expiryDate)
-        .signWith(getSigningKey())
+        .signWith(signingKey)
         .compact();
   }
 
+  public JwtClaims parseToken(String token) {
+    Claims claims = parseClaims(token);
+    return new JwtClaims(
+        Long.parseLong(claims.getSubject()),
+        MemberType.fromValue(claims.get("type", String.class)),
+        claims.getExpiration().toInstant());
+  }
+
   public Long getIdFromToken(String token) {
-    Claims claims =
-        Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+    Claims claims = parseClaims(token);
     return Long.parseLong(claims.getSubject());
   }
 
   public MemberType getTypeFromToken(String token) {
-    Claims claims =
-        Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+    Claims claims = parseClaims(token);
     String typeValue = claims.get("type", String.class);
     return MemberType.fromValue(typeValue);
   }
 
   public boolean validateToken(String token) {
     try {
-      Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token);
+      parseClaims(token);
       return true;
     } catch (Exception e) {
       return false;
@@ -62,11 +71,14 @@ public class JwtService {
 
   public boolean isTokenExpired(String token) {
     try {
-      Claims claims =
-          Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+      Claims claims = parseClaims(token);
       return claims.getExpiration().before(new Date());
     } catch (Exception e) {
       return true;
     }
   }
+
+  private Claims parseClaims(String token) {
+    return jwtParser.parseSignedClaims(token).getPayload();
+  }
 }
@@ -11,32 +11,34 @@ import org.board.board.repository.MemberRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed(value = "member.service", percentiles = {0.5, 0.95, 0.99})
 public class MemberService {
 
   private final MemberRepository memberRepository;
   private final PasswordEncoder passwordEncoder;
   private final JwtService jwtService;
+  private final PasswordRehashService passwordRehashService;
 
   private static final Pattern USERNAME_PATTERN = Pattern.compile("^[a-z0-9]{4,10}$");
   private static final Pattern PASSWORD_PATTERN =
       Pattern.compile("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)[a-zA-Z\\d]{8,15}$");
 
   public MemberService(
-      MemberRepository memberRepository, PasswordEncoder passwordEncoder, JwtService jwtService) {
+      MemberRepository memberRepository,
+      PasswordEncoder passwordEncoder,
+      JwtService jwtService,
+      PasswordRehashService passwordRehashService) {
     this.memberRepository = memberRepository;
     this.passwordEncoder = passwordEncoder;
     this.jwtService = jwtService;
+    this.passwordRehashService = passwordRehashService;
   }
 
   public SignupResponse signup(SignupRequest request) {
-    if (!USERNAME_PATTERN.matcher(request.getUsername()).matches()) {
-      throw new IllegalArgumentException("username은 4-10자의 영소문자와 숫자로만 구성되어야 합니다.");
-    }
-
-    if (!PASSWORD_PATTERN.matcher(request.getPassword()).matches()) {
-      throw new IllegalArgumentException("password는 8-15자의 영대소문자와 숫자로만 구성되어야 합니다.");
-    }
+    validateCredentialFormat(request.getUsername(), request.getPassword());
 
     if (memberRepository.existsByUsername(request.getUsername())) {
       throw new IllegalArgumentException("이미 존재하는 username입니다.");
@@ -63,7 +65,21 @@ public class MemberService {
       throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
     }
 
+    if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+      passwordRehashService.rehash(user.getId(), user.getPassword(), password);
+    }
+
     String token = jwtService.generateToken(user.getId(), user.getType());
     return new LoginResponse("로그인이 성공적으로 완료되었습니다.", token, user.getUsername());
   }
+
+  static void validateCredentialFormat(String username, String password) {
+    if (!USERNAME_PATTERN.matcher(username).matches()) {
+      throw new IllegalArgumentException("username은 4-10자의 영소문자와 숫자로만 구성되어야 합니다.");
+    }
+
+    if (!PASSWORD_PATTERN.matcher(password).matches()) {
+      throw new IllegalArgumentException("password는 8-15자의 영대소문자와 숫자로만 구성되어야 합니다.");
+    }
+  }
 }
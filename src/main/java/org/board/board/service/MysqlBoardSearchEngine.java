@@ -0,0 +1,57 @@
+package org.board.board.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.board.board.dto.board.BoardListResponse;
+import org.board.board.dto.board.BoardSearchCursor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class MysqlBoardSearchEngine implements BoardSearchEngine {
+
+  private static final String RANKED =
+      "select id, title, substring(content, 1, :previewLength) as preview, member_id,"
+          + " created_at, view_count,"
+          + " match(title, content) against (:query in natural language mode) as score"
+          + " from board"
+          + " where match(title, content) against (:query in natural language mode)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final int previewLength;
+
+  public MysqlBoardSearchEngine(NamedParameterJdbcTemplate jdbcTemplate, int previewLength) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.previewLength = previewLength;
+  }
+
+  @Override
+  public List<BoardSearchHit> search(String query, BoardSearchCursor after, int limit) {
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("query", query)
+            .addValue("previewLength", previewLength)
+            .addValue("limit", limit);
+
+    StringBuilder sql = new StringBuilder("select * from (").append(RANKED).append(") ranked");
+    if (after != null) {
+      sql.append(" where score < :score or (score = :score and id < :id)");
+      params.addValue("score", after.score()).addValue("id", after.id());
+    }
+    sql.append(" order by score desc, id desc limit :limit");
+
+    return jdbcTemplate.query(
+        sql.toString(),
+        params,
+        (rs, rowNum) ->
+            new BoardSearchHit(
+                new BoardListResponse(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("preview"),
+                    rs.getLong("member_id"),
+                    rs.getObject("created_at", LocalDateTime.class),
+                    rs.getLong("view_count")),
+                rs.getDouble("score")));
+  }
+}
@@ -0,0 +1,35 @@
+package org.board.board.service;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.board.board.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PasswordRehashService {
+
+  private static final Logger log = LoggerFactory.getLogger(PasswordRehashService.class);
+
+  private final MemberRepository memberRepository;
+  private final PasswordEncoder passwordEncoder;
+
+  public PasswordRehashService(MemberRepository memberRepository, PasswordEncoder passwordEncoder) {
+    this.memberRepository = memberRepository;
+    this.passwordEncoder = passwordEncoder;
+  }
+
+  @Async
+  public void rehash(Long memberId, String oldEncodedPassword, String rawPassword) {
+    try {
+      String newEncodedPassword = passwordEncoder.encode(rawPassword);
+      memberRepository.updatePassword(memberId, oldEncodedPassword, newEncodedPassword);
+    } catch (RejectedExecutionException e) {
+      // 해시 실행기가 포화 상태면 다음 로그인 때 다시 시도한다.
+      log.debug("Skipped password rehash for member {}: hashing executor saturated", memberId);
+    }
+  }
+}
@@ -0,0 +1,13 @@
+-- MySQL에는 CREATE INDEX IF NOT EXISTS가 없으므로, 재시작 때마다 다시 실행되어도 인덱스가 없을 때만 만든다
+SET @ft_board_exists = (
+  SELECT COUNT(*) FROM information_schema.statistics
+  WHERE table_schema = DATABASE()
+    AND table_name = 'board'
+    AND index_name = 'ft_board_title_content');
+SET @ft_board_ddl = IF(
+  @ft_board_exists = 0,
+  'CREATE FULLTEXT INDEX ft_board_title_content ON board (title, content) WITH PARSER ngram',
+  'DO 0');
+PREPARE ft_board_stmt FROM @ft_board_ddl;
+EXECUTE ft_board_stmt;
+DEALLOCATE PREPARE ft_board_stmt;
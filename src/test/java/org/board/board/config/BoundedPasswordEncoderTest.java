@@ -0,0 +1,111 @@
+package org.board.board.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final CountDownLatch started = new CountDownLatch(1);
+
+  private BoundedPasswordEncoder encoder;
+
+  private final PasswordEncoder blockingDelegate =
+      new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+          started.countDown();
+          try {
+            release.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+          return encodedPassword.equals("encoded:" + rawPassword);
+        }
+      };
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    if (encoder != null) {
+      encoder.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("전용 실행기에서 해시하고 결과를 반환")
+  void encode_ShouldReturnDelegateResult() {
+    // given
+    encoder =
+        new BoundedPasswordEncoder(blockingDelegate, 1, 1, Duration.ofSeconds(5), meterRegistry);
+    release.countDown();
+
+    // when
+    String encoded = encoder.encode("Password123");
+
+    // then
+    assertThat(encoded).isEqualTo("encoded:Password123");
+    assertThat(encoder.matches("Password123", encoded)).isTrue();
+    assertThat(meterRegistry.get("password.hash").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("작업 큐가 가득 차면 즉시 거부")
+  void encode_WhenSaturated_ShouldRejectImmediately() throws Exception {
+    // given
+    encoder =
+        new BoundedPasswordEncoder(blockingDelegate, 1, 1, Duration.ofSeconds(5), meterRegistry);
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+    started.await(5, TimeUnit.SECONDS);
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1
+        && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+
+    // when & then
+    assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(RejectedExecutionException.class);
+
+    release.countDown();
+    assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded:a");
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded:b");
+  }
+
+  @Test
+  @DisplayName("최대 대기 시간 안에 해시가 끝나지 않으면 거부하고 큐에서 제거")
+  void encode_WhenWaitExceedsMaxWait_ShouldRejectAndDropTask() throws Exception {
+    // given
+    encoder =
+        new BoundedPasswordEncoder(blockingDelegate, 1, 1, Duration.ofMillis(100), meterRegistry);
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+    started.await(5, TimeUnit.SECONDS);
+
+    // when & then
+    assertThatThrownBy(() -> encoder.encode("b")).isInstanceOf(RejectedExecutionException.class);
+    assertThat(meterRegistry.get("password.hash.queue.size").gauge().value()).isZero();
+
+    release.countDown();
+    assertThatThrownBy(() -> running.get(5, TimeUnit.SECONDS))
+        .hasRootCauseInstanceOf(RejectedExecutionException.class);
+  }
+}
@@ -0,0 +1,95 @@
+package org.board.board.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.board.board.entity.MemberType;
+import org.board.board.service.JwtClaims;
+import org.board.board.service.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class JwtClaimsCacheTest {
+
+  @Mock private JwtService jwtService;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("캐시 활성화 시 같은 토큰은 한 번만 검증")
+  void resolve_WithCacheEnabled_ShouldVerifyOnce() {
+    // given
+    JwtClaimsCache cache = new JwtClaimsCache(jwtService, meterRegistry, true, 100);
+    JwtClaims claims = new JwtClaims(1L, MemberType.USER, Instant.now().plusSeconds(60));
+    when(jwtService.parseToken("token")).thenReturn(claims);
+
+    // when
+    JwtClaims first = cache.resolve("token");
+    JwtClaims second = cache.resolve("token");
+
+    // then
+    assertThat(first).isEqualTo(claims);
+    assertThat(second).isEqualTo(claims);
+    verify(jwtService, times(1)).parseToken("token");
+    assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get("jwt.verification.saved").counter().count())
+        .isEqualTo(meterRegistry.get("jwt.verification").timer().mean(TimeUnit.SECONDS));
+  }
+
+  @Test
+  @DisplayName("만료 시각이 지난 클레임은 캐시하지 않고 다시 검증")
+  void resolve_WithExpiredClaims_ShouldVerifyAgain() {
+    // given
+    JwtClaimsCache cache = new JwtClaimsCache(jwtService, meterRegistry, true, 100);
+    JwtClaims expired = new JwtClaims(1L, MemberType.USER, Instant.now().minusSeconds(1));
+    when(jwtService.parseToken("token")).thenReturn(expired);
+
+    // when
+    cache.resolve("token");
+    cache.resolve("token");
+
+    // then
+    verify(jwtService, times(2)).parseToken("token");
+  }
+
+  @Test
+  @DisplayName("캐시 비활성화 시 매 요청마다 검증")
+  void resolve_WithCacheDisabled_ShouldAlwaysVerify() {
+    // given
+    JwtClaimsCache cache = new JwtClaimsCache(jwtService, meterRegistry, false, 100);
+    JwtClaims claims = new JwtClaims(1L, MemberType.USER, Instant.now().plusSeconds(60));
+    when(jwtService.parseToken("token")).thenReturn(claims);
+
+    // when
+    cache.resolve("token");
+    cache.resolve("token");
+
+    // then
+    verify(jwtService, times(2)).parseToken("token");
+  }
+
+  @Test
+  @DisplayName("검증에 실패한 토큰은 예외를 그대로 전달")
+  void resolve_WithInvalidToken_ShouldPropagateException() {
+    // given
+    JwtClaimsCache cache = new JwtClaimsCache(jwtService, meterRegistry, true, 100);
+    when(jwtService.parseToken("invalid")).thenThrow(new JwtException("invalid"));
+
+    // when & then
+    assertThatThrownBy(() -> cache.resolve("invalid")).isInstanceOf(JwtException.class);
+  }
+}
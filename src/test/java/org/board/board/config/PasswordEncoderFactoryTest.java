@@ -0,0 +1,74 @@
+package org.board.board.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordEncoderFactoryTest {
+
+  private static final int PBKDF2_ITERATIONS = 1_000;
+
+  @Test
+  @DisplayName("설정된 알고리즘 접두사로 인코딩")
+  void create_ShouldEncodeWithConfiguredId() {
+    // given
+    PasswordEncoder encoder =
+        PasswordEncoderFactory.create(
+            PasswordEncoderFactory.PBKDF2, Duration.ZERO, false, PBKDF2_ITERATIONS);
+
+    // when
+    String encoded = encoder.encode("Password123");
+
+    // then
+    assertThat(encoded).startsWith("{pbkdf2}");
+    assertThat(encoder.matches("Password123", encoded)).isTrue();
+    assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+  }
+
+  @Test
+  @DisplayName("접두사 없는 기존 BCrypt 해시를 검증하고 재해시 대상으로 판단")
+  void create_WithLegacyBcryptHash_ShouldMatchAndRequestUpgrade() {
+    // given
+    PasswordEncoder encoder =
+        PasswordEncoderFactory.create(
+            PasswordEncoderFactory.BCRYPT, Duration.ZERO, false, PBKDF2_ITERATIONS);
+    String legacyHash = new BCryptPasswordEncoder(4).encode("Password123");
+
+    // when & then
+    assertThat(encoder.matches("Password123", legacyHash)).isTrue();
+    assertThat(encoder.upgradeEncoding(legacyHash)).isTrue();
+  }
+
+  @Test
+  @DisplayName("다른 알고리즘으로 저장된 해시를 재해시 대상으로 판단")
+  void create_WithOtherAlgorithmHash_ShouldRequestUpgrade() {
+    // given
+    PasswordEncoder pbkdf2 =
+        PasswordEncoderFactory.create(
+            PasswordEncoderFactory.PBKDF2, Duration.ZERO, false, PBKDF2_ITERATIONS);
+    PasswordEncoder bcrypt =
+        PasswordEncoderFactory.create(
+            PasswordEncoderFactory.BCRYPT, Duration.ZERO, false, PBKDF2_ITERATIONS);
+    String encoded = pbkdf2.encode("Password123");
+
+    // when & then
+    assertThat(bcrypt.matches("Password123", encoded)).isTrue();
+    assertThat(bcrypt.upgradeEncoding(encoded)).isTrue();
+  }
+
+  @Test
+  @DisplayName("지원하지 않는 알고리즘 설정 시 예외 발생")
+  void create_WithUnsupportedId_ShouldThrowException() {
+    // when & then
+    assertThatThrownBy(
+            () -> PasswordEncoderFactory.create("md5", Duration.ZERO, false, PBKDF2_ITERATIONS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unsupported password encoding: md5");
+  }
+}
@@ -0,0 +1,128 @@
+package org.board.board.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class ReadWriteRoutingDataSourceTest {
+
+  private HikariDataSource primary;
+  private HikariDataSource replicaA;
+  private HikariDataSource replicaB;
+  private ReadWriteRoutingDataSource routingDataSource;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readWrite;
+  private TransactionTemplate readOnly;
+
+  private static HikariDataSource h2(String name) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("create table marker (name varchar(20))");
+    jdbcTemplate.update("insert into marker values (?)", name);
+    return dataSource;
+  }
+
+  @BeforeEach
+  void setUp() {
+    primary = h2("primary");
+    replicaA = h2("replica-a");
+    replicaB = h2("replica-b");
+    routingDataSource =
+        new ReadWriteRoutingDataSource(
+            primary,
+            List.of(replicaA, replicaB),
+            new ReadYourWritesTracker(Duration.ofSeconds(5)));
+    routingDataSource.afterPropertiesSet();
+
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    readWrite = new TransactionTemplate(transactionManager);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    routingDataSource.destroy();
+    primary.close();
+  }
+
+  private String read(TransactionTemplate transactionTemplate) {
+    return transactionTemplate.execute(
+        status -> jdbcTemplate.queryForObject("select name from marker", String.class));
+  }
+
+  private void authenticate(String memberId) {
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(memberId, null, List.of()));
+  }
+
+  @Test
+  @DisplayName("읽기 전용 트랜잭션은 복제본을 번갈아 사용")
+  void readOnlyTransaction_ShouldRoundRobinReplicas() {
+    assertThat(List.of(read(readOnly), read(readOnly), read(readOnly)))
+        .containsExactly("replica-a", "replica-b", "replica-a");
+  }
+
+  @Test
+  @DisplayName("읽기 전용이 아닌 트랜잭션은 주 DB 사용")
+  void readWriteTransaction_ShouldUsePrimary() {
+    assertThat(read(readWrite)).isEqualTo("primary");
+  }
+
+  @Test
+  @DisplayName("캐시를 채우는 읽기는 읽기 전용 트랜잭션이어도 주 DB를 쓰고, 이후 읽기를 주 DB에 묶지 않는다")
+  void readFromPrimary_ShouldUsePrimaryWithoutStickiness() {
+    // given
+    authenticate("2");
+
+    // when
+    String cacheFillingRead =
+        readOnly.execute(
+            status ->
+                ReadWriteRoutingDataSource.readFromPrimary(
+                    () -> jdbcTemplate.queryForObject("select name from marker", String.class)));
+    String nextRead = read(readOnly);
+
+    // then
+    assertThat(cacheFillingRead).isEqualTo("primary");
+    assertThat(nextRead).startsWith("replica");
+  }
+
+  @Test
+  @DisplayName("쓰기를 한 회원의 읽기는 주 DB로, 다른 회원의 읽기는 복제본으로")
+  void readAfterOwnWrite_ShouldStickToPrimary() {
+    // given
+    authenticate("1");
+    read(readWrite);
+
+    // when
+    String ownRead = read(readOnly);
+    authenticate("2");
+    String otherRead = read(readOnly);
+
+    // then
+    assertThat(ownRead).isEqualTo("primary");
+    assertThat(otherRead).startsWith("replica");
+  }
+}
@@ -0,0 +1,58 @@
+package org.board.board.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+
+class StatementMetricsFilterTest {
+
+  @Test
+  @DisplayName("요청 중 실행된 SQL 문 수와 DB 시간을 uri 패턴 태그로 기록한다")
+  void recordsStatementsPerRequest() throws Exception {
+    // given
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    StatementMetricsFilter filter = new StatementMetricsFilter(registry);
+    StatementCounter counter = new StatementCounter();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards/1");
+
+    // when
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> {
+          counter.afterQuery(execution(3), List.of());
+          counter.afterQuery(execution(4), List.of());
+          req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/boards/{id}");
+        });
+
+    // then
+    DistributionSummary summary =
+        registry
+            .get("http.server.requests.statements")
+            .tag("uri", "/api/boards/{id}")
+            .summary();
+    assertThat(summary.count()).isEqualTo(1);
+    assertThat(summary.totalAmount()).isEqualTo(2);
+    Timer dbTime = registry.get("http.server.requests.db").tag("uri", "/api/boards/{id}").timer();
+    assertThat(dbTime.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(7);
+    assertThat(StatementCounter.current().statements()).isZero();
+  }
+
+  private static ExecutionInfo execution(long elapsedMillis) {
+    ExecutionInfo execution = new ExecutionInfo();
+    execution.setElapsedTime(elapsedMillis);
+    return execution;
+  }
+}
@@ -0,0 +1,121 @@
+package org.board.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.board.board.dto.board.BoardCursorResponse;
+import org.board.board.dto.board.BoardDetailResponse;
+import org.board.board.dto.board.BoardListResponse;
+import org.board.board.exception.BoardVersionMismatchException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+class BoardETagsTest {
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+  private BoardDetailResponse board(long version) {
+    return board(version, 0L);
+  }
+
+  private BoardDetailResponse board(long version, long viewCount) {
+    return new BoardDetailResponse(
+        1L, "제목", "내용", 1L, viewCount, version, CREATED_AT, CREATED_AT);
+  }
+
+  private BoardListResponse item(long viewCount) {
+    return new BoardListResponse(1L, "제목", "내용", 1L, CREATED_AT, viewCount);
+  }
+
+  @Test
+  @DisplayName("게시글 ETag는 id, 버전, 조회수로 만든 강한 ETag")
+  void of_Board_ShouldChangeWhenVersionChanges() {
+    // when
+    String etag = BoardETags.of(board(3L));
+
+    // then
+    assertThat(etag).isEqualTo("\"1-3-0\"");
+    assertThat(BoardETags.of(board(4L))).isNotEqualTo(etag);
+  }
+
+  @Test
+  @DisplayName("버전이 같아도 조회수가 바뀌면 게시글 ETag가 달라짐")
+  void of_Board_ShouldChangeWhenViewCountChanges() {
+    // when
+    String etag = BoardETags.of(board(3L, 10L));
+
+    // then
+    assertThat(BoardETags.of(board(3L, 11L))).isNotEqualTo(etag);
+    assertThat(BoardETags.parseIfMatch(etag, 1L)).containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("If-Match에서 이 게시글의 버전을 꺼내고, 없거나 *이면 null")
+  void parseIfMatch_ShouldExtractVersion() {
+    assertThat(BoardETags.parseIfMatch("\"1-3\"", 1L)).containsExactly(3L);
+    assertThat(BoardETags.parseIfMatch(null, 1L)).isNull();
+    assertThat(BoardETags.parseIfMatch("*", 1L)).isNull();
+  }
+
+  @Test
+  @DisplayName("압축 응답에서 약해진 ETag로 If-Match 시 같은 버전으로 인식")
+  void parseIfMatch_WithWeakenedETag_ShouldExtractVersion() {
+    assertThat(BoardETags.parseIfMatch("W/\"1-3\"", 1L)).containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("쉼표로 구분한 If-Match 목록에서 이 게시글 ETag의 버전을 모두 꺼냄")
+  void parseIfMatch_WithETagList_ShouldExtractEveryVersion() {
+    assertThat(BoardETags.parseIfMatch("\"1-3\", \"1-4\"", 1L)).containsExactly(3L, 4L);
+    assertThat(BoardETags.parseIfMatch("\"2-9\", W/\"1-4-7\",\"1-4\"", 1L)).containsExactly(4L);
+    assertThatThrownBy(() -> BoardETags.parseIfMatch("\"2-3\", \"2-4\"", 1L))
+        .isInstanceOf(BoardVersionMismatchException.class);
+  }
+
+  @Test
+  @DisplayName("다른 게시글의 ETag나 형식이 다른 ETag로 If-Match 시 버전 불일치")
+  void parseIfMatch_WithForeignOrMalformedETag_ShouldThrowException() {
+    assertThatThrownBy(() -> BoardETags.parseIfMatch("\"2-3\"", 1L))
+        .isInstanceOf(BoardVersionMismatchException.class);
+    assertThatThrownBy(() -> BoardETags.parseIfMatch("W/\"2-3\"", 1L))
+        .isInstanceOf(BoardVersionMismatchException.class);
+    assertThatThrownBy(() -> BoardETags.parseIfMatch("\"1-x\"", 1L))
+        .isInstanceOf(BoardVersionMismatchException.class);
+    assertThatThrownBy(() -> BoardETags.parseIfMatch("\"1-3-x\"", 1L))
+        .isInstanceOf(BoardVersionMismatchException.class);
+  }
+
+  @Test
+  @DisplayName("목록 ETag는 내용, 다음 페이지 여부, 전체 개수가 바뀌면 달라짐")
+  void of_Slice_ShouldReflectContentAndPageState() {
+    // given
+    PageRequest pageable = PageRequest.of(0, 1);
+    String etag = BoardETags.of(new SliceImpl<>(List.of(item(0)), pageable, false));
+
+    // then
+    assertThat(BoardETags.of(new SliceImpl<>(List.of(item(0)), pageable, false))).isEqualTo(etag);
+    assertThat(BoardETags.of(new SliceImpl<>(List.of(item(1)), pageable, false)))
+        .isNotEqualTo(etag);
+    assertThat(BoardETags.of(new SliceImpl<>(List.of(item(0)), pageable, true)))
+        .isNotEqualTo(etag);
+    assertThat(BoardETags.of(new PageImpl<>(List.of(item(0)), pageable, 5)))
+        .isNotEqualTo(BoardETags.of(new PageImpl<>(List.of(item(0)), pageable, 6)));
+  }
+
+  @Test
+  @DisplayName("커서 목록 ETag는 다음 커서가 바뀌면 달라짐")
+  void of_CursorResponse_ShouldReflectNextCursor() {
+    // when
+    String etag = BoardETags.of(new BoardCursorResponse(List.of(item(0)), null, false));
+
+    // then
+    assertThat(BoardETags.of(new BoardCursorResponse(List.of(item(0)), "next", true)))
+        .isNotEqualTo(etag);
+  }
+}
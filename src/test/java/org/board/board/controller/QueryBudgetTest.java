@@ -0,0 +1,143 @@
+package org.board.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.board.board.entity.Board;
+import org.board.board.entity.MemberType;
+import org.board.board.repository.BoardRepository;
+import org.board.board.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 엔드포인트별 SQL 문 수 예산. 요청 하나가 실행한 JDBC 문 수({@code http.server.requests.statements})가 예산을 넘으면
+ * 실패하므로, N+1 같은 쿼리 회귀를 테스트 단계에서 잡는다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetTest {
+
+  private static final long MEMBER_ID = 1L;
+  private static final String BOARD_JSON = "{\"title\":\"제목\",\"content\":\"내용\"}";
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private MeterRegistry meterRegistry;
+  @Autowired private BoardRepository boardRepository;
+  @Autowired private JwtService jwtService;
+
+  private String authorization;
+
+  @BeforeEach
+  void setUp() {
+    authorization = "Bearer " + jwtService.generateToken(MEMBER_ID, MemberType.USER);
+    for (int i = 0; i < 3; i++) {
+      boardRepository.save(new Board("제목 " + i, "내용 " + i, MEMBER_ID));
+    }
+  }
+
+  @Test
+  @DisplayName("GET /api/boards 는 2개 이하의 문장으로 응답한다")
+  void getBoardList() throws Exception {
+    assertThat(statements(get("/api/boards"), "GET", "/api/boards")).isLessThanOrEqualTo(2);
+    assertThat(statements(get("/api/boards").param("count", "EXACT"), "GET", "/api/boards"))
+        .isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("GET /api/boards/cursor 는 1개 문장으로 응답한다")
+  void getBoardsByCursor() throws Exception {
+    assertThat(statements(get("/api/boards/cursor"), "GET", "/api/boards/cursor"))
+        .isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("GET /api/boards/{id} 는 캐시에 없을 때 1개 문장으로 응답한다")
+  void getBoardById() throws Exception {
+    Board board = boardRepository.save(new Board("제목", "내용", MEMBER_ID));
+
+    assertThat(statements(get("/api/boards/" + board.getId()), "GET", "/api/boards/{id}"))
+        .isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("POST /api/boards 는 1개 문장으로 게시글을 만든다")
+  void createBoard() throws Exception {
+    assertThat(statements(post("/api/boards").content(BOARD_JSON), "POST", "/api/boards"))
+        .isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("PUT /api/boards/{id} 는 1개 문장으로 게시글을 수정한다")
+  void updateBoard() throws Exception {
+    Board board = boardRepository.save(new Board("제목", "내용", MEMBER_ID));
+
+    assertThat(
+            statements(
+                put("/api/boards/" + board.getId())
+                    .header(HttpHeaders.IF_MATCH, BoardETags.of(board.getId(), board.getVersion()))
+                    .content(BOARD_JSON),
+                "PUT",
+                "/api/boards/{id}"))
+        .isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("PUT /api/boards/{id} 는 If-Match가 없으면 새 버전 조회까지 2개 문장으로 수정한다")
+  void updateBoardWithoutIfMatch() throws Exception {
+    Board board = boardRepository.save(new Board("제목", "내용", MEMBER_ID));
+
+    assertThat(
+            statements(
+                put("/api/boards/" + board.getId()).content(BOARD_JSON), "PUT", "/api/boards/{id}"))
+        .isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("DELETE /api/boards/{id} 는 1개 문장으로 게시글을 삭제한다")
+  void deleteBoard() throws Exception {
+    Board board = boardRepository.save(new Board("제목", "내용", MEMBER_ID));
+
+    assertThat(statements(delete("/api/boards/" + board.getId()), "DELETE", "/api/boards/{id}"))
+        .isLessThanOrEqualTo(1);
+  }
+
+  private long statements(MockHttpServletRequestBuilder request, String method, String uri)
+      throws Exception {
+    double before = recordedStatements(method, uri);
+    mockMvc
+        .perform(
+            request
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().is2xxSuccessful());
+    return (long) (recordedStatements(method, uri) - before);
+  }
+
+  private double recordedStatements(String method, String uri) {
+    DistributionSummary summary =
+        meterRegistry
+            .find("http.server.requests.statements")
+            .tag("method", method)
+            .tag("uri", uri)
+            .summary();
+    return summary == null ? 0 : summary.totalAmount();
+  }
+}
@@ -0,0 +1,55 @@
+package org.board.board.dto.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class BoardPageResponseTest {
+
+  private static final BoardListResponse ITEM =
+      new BoardListResponse(1L, "제목", "내용", 1L, LocalDateTime.of(2025, 1, 1, 12, 0), 0L);
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  @Test
+  @DisplayName("Slice는 전체 개수 없이 다음 페이지 번호만 담는다")
+  void from_Slice_ShouldOmitTotal() throws Exception {
+    // when
+    BoardPageResponse response =
+        BoardPageResponse.from(new SliceImpl<>(List.of(ITEM), PageRequest.of(2, 1), true));
+
+    // then
+    assertThat(response.page()).isEqualTo(2);
+    assertThat(response.nextPage()).isEqualTo(3);
+    assertThat(response.totalElements()).isNull();
+    assertThat(objectMapper.readTree(objectMapper.writeValueAsString(response)).fieldNames())
+        .toIterable()
+        .containsExactlyInAnyOrder("boards", "page", "size", "nextPage", "hasNext");
+  }
+
+  @Test
+  @DisplayName("Page의 마지막 페이지는 전체 개수를 담고 다음 페이지 번호는 생략한다")
+  void from_LastPage_ShouldIncludeTotalWithoutNextPage() throws Exception {
+    // when
+    BoardPageResponse response =
+        BoardPageResponse.from(new PageImpl<>(List.of(ITEM), PageRequest.of(0, 20), 1));
+
+    // then
+    assertThat(response.hasNext()).isFalse();
+    assertThat(response.nextPage()).isNull();
+    assertThat(response.totalElements()).isEqualTo(1L);
+    assertThat(objectMapper.readTree(objectMapper.writeValueAsString(response)).fieldNames())
+        .toIterable()
+        .containsExactlyInAnyOrder("boards", "page", "size", "hasNext", "totalElements");
+  }
+}
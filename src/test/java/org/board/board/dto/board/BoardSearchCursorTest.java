@@ -0,0 +1,33 @@
+package org.board.board.dto.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoardSearchCursorTest {
+
+  @Test
+  @DisplayName("관련도 점수를 비트 단위로 그대로 복원")
+  void decode_ShouldRestoreScoreBitForBit() {
+    // given
+    double score = Math.nextUp(0.1 + 0.2);
+    BoardSearchCursor cursor = new BoardSearchCursor(score, 42L);
+
+    // when
+    BoardSearchCursor decoded = BoardSearchCursor.decode(cursor.encode());
+
+    // then
+    assertThat(Double.doubleToLongBits(decoded.score())).isEqualTo(Double.doubleToLongBits(score));
+    assertThat(decoded.id()).isEqualTo(42L);
+  }
+
+  @Test
+  @DisplayName("형식이 잘못된 커서는 예외 발생")
+  void decode_WithInvalidToken_ShouldThrowException() {
+    // when & then
+    assertThatThrownBy(() -> BoardSearchCursor.decode("not-a-cursor"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,147 @@
+package org.board.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.zip.GZIPInputStream;
+
+import javax.sql.DataSource;
+
+import org.board.board.dto.board.BoardExportFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BoardExportServiceTest {
+
+  private EmbeddedDatabase database;
+  private BoardExportService boardExportService;
+
+  @BeforeEach
+  void setUp() {
+    database =
+        new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+    jdbcTemplate.execute(
+        "create table board (id bigint primary key, title varchar(100), content varchar(1000),"
+            + " member_id bigint, view_count bigint, created_at timestamp, updated_at timestamp)");
+    jdbcTemplate.update(
+        "insert into board values (1, '첫 글', '내용, \"인용\"', 1, 3,"
+            + " timestamp '2025-01-01 12:00:00', timestamp '2025-01-01 12:00:00')");
+    jdbcTemplate.update(
+        "insert into board values (2, '둘째 글', '내용', 2, 0,"
+            + " timestamp '2025-01-02 12:00:00', timestamp '2025-01-02 12:00:00')");
+    boardExportService =
+        new BoardExportService(jdbcTemplate, new ObjectMapper().findAndRegisterModules(), 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  private String export(BoardExportFormat format, long afterId) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    boardExportService.export(format, afterId, false, out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @DisplayName("NDJSON으로 내보내면 게시글마다 한 줄씩 id 순서로 출력")
+  void export_AsNdjson_ShouldWriteOneLinePerBoard() throws IOException {
+    // when
+    String result = export(BoardExportFormat.NDJSON, 0);
+
+    // then
+    String[] lines = result.split("\n");
+    assertThat(result).endsWith("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"viewCount\":3");
+    assertThat(lines[1]).startsWith("{\"id\":2,");
+  }
+
+  @Test
+  @DisplayName("CSV로 내보내면 헤더와 함께 쉼표와 따옴표를 이스케이프")
+  void export_AsCsv_ShouldEscapeFields() throws IOException {
+    // when
+    String result = export(BoardExportFormat.CSV, 0);
+
+    // then
+    assertThat(result.split("\r\n"))
+        .containsExactly(
+            "id,title,content,member_id,view_count,created_at,updated_at",
+            "1,\"첫 글\",\"내용, \"\"인용\"\"\",1,3,2025-01-01T12:00,2025-01-01T12:00",
+            "2,\"둘째 글\",\"내용\",2,0,2025-01-02T12:00,2025-01-02T12:00");
+  }
+
+  @Test
+  @DisplayName("afterId 이후의 게시글부터 이어서 내보냄")
+  void export_WithAfterId_ShouldResume() throws IOException {
+    // when
+    String result = export(BoardExportFormat.NDJSON, 1);
+
+    // then
+    assertThat(result.split("\n")).hasSize(1);
+    assertThat(result).startsWith("{\"id\":2,");
+  }
+
+  @Test
+  @DisplayName("gzip으로 내보내면 압축을 풀었을 때 원본과 같음")
+  void export_WithGzip_ShouldCompressOutput() throws IOException {
+    // given
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    boardExportService.export(BoardExportFormat.NDJSON, 0, true, out);
+
+    // then
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+          .isEqualTo(export(BoardExportFormat.NDJSON, 0));
+    }
+  }
+
+  @Test
+  @DisplayName("MySQL에서는 fetch size를 Integer.MIN_VALUE로 주어 행 단위로 스트리밍")
+  void export_OnMysql_ShouldStreamRowByRow() throws Exception {
+    // given
+    DataSource dataSource = mock(DataSource.class);
+    Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+    PreparedStatement statement = mock(PreparedStatement.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.getMetaData().getDatabaseProductName()).thenReturn("MySQL");
+    when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(mock(ResultSet.class));
+    BoardExportService mysqlExportService =
+        new BoardExportService(
+            new JdbcTemplate(dataSource), new ObjectMapper().findAndRegisterModules(), 1000);
+
+    // when
+    mysqlExportService.export(BoardExportFormat.NDJSON, 0, false, new ByteArrayOutputStream());
+
+    // then
+    verify(statement).setFetchSize(Integer.MIN_VALUE);
+  }
+}
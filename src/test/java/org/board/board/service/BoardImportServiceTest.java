@@ -0,0 +1,167 @@
+package org.board.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.board.board.dto.board.BoardImportProgress;
+import org.board.board.entity.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BoardImportServiceTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  private JdbcTemplate jdbcTemplate;
+  private BoardSearchEngine boardSearchEngine;
+  private BoardImportService boardImportService;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = mock(JdbcTemplate.class);
+    boardSearchEngine = mock(BoardSearchEngine.class);
+    boardImportService =
+        new BoardImportService(
+            jdbcTemplate,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new ObjectMapper().findAndRegisterModules(),
+            boardSearchEngine,
+            BATCH_SIZE);
+
+    AtomicLong nextId = new AtomicLong(1);
+    doAnswer(
+            invocation -> {
+              BatchPreparedStatementSetter setter = invocation.getArgument(1);
+              KeyHolder keyHolder = invocation.getArgument(2);
+              for (int i = 0; i < setter.getBatchSize(); i++) {
+                keyHolder.getKeyList().add(Map.of("GENERATED_KEY", nextId.getAndIncrement()));
+              }
+              return new int[setter.getBatchSize()];
+            })
+        .when(jdbcTemplate)
+        .batchUpdate(
+            any(PreparedStatementCreator.class),
+            any(BatchPreparedStatementSetter.class),
+            any(KeyHolder.class));
+  }
+
+  private InputStream ndjson(String... lines) {
+    return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("배치 크기마다 한 번의 배치 INSERT 후 진행 상황 알림")
+  void importBoards_ShouldInsertInBatchesAndReportProgress() throws IOException {
+    // given
+    List<BoardImportProgress> progress = new ArrayList<>();
+    InputStream body =
+        ndjson(
+            "{\"title\":\"제목1\",\"content\":\"내용1\"}",
+            "{\"title\":\"제목2\",\"content\":\"내용2\",\"memberId\":7}",
+            "{\"title\":\"제목3\",\"content\":\"내용3\",\"createdAt\":\"2020-01-01T12:00:00\"}",
+            "",
+            "{\"title\":\"제목4\",\"content\":\"내용4\"}",
+            "{\"title\":\"제목5\",\"content\":\"내용5\"}");
+
+    // when
+    BoardImportProgress result = boardImportService.importBoards(body, 1L, progress::add);
+
+    // then
+    assertThat(progress)
+        .extracting(BoardImportProgress::batch, BoardImportProgress::imported)
+        .containsExactly(tuple(1L, 2L), tuple(2L, 4L));
+    assertThat(result.done()).isTrue();
+    assertThat(result.batch()).isEqualTo(3L);
+    assertThat(result.inserted()).isEqualTo(1);
+    assertThat(result.imported()).isEqualTo(5L);
+    verify(jdbcTemplate, times(3))
+        .batchUpdate(
+            any(PreparedStatementCreator.class),
+            any(BatchPreparedStatementSetter.class),
+            any(KeyHolder.class));
+  }
+
+  @Test
+  @DisplayName("등록한 게시글만 생성된 ID로 색인하고 전체 재색인은 하지 않음")
+  void importBoards_ShouldIndexOnlyInsertedBoards() throws IOException {
+    // given
+    InputStream body =
+        ndjson(
+            "{\"title\":\"제목1\",\"content\":\"내용1\"}",
+            "{\"title\":\"제목2\",\"content\":\"내용2\",\"memberId\":7}",
+            "{\"title\":\"제목3\",\"content\":\"내용3\"}");
+
+    // when
+    boardImportService.importBoards(body, 1L, progress -> {});
+
+    // then
+    ArgumentCaptor<Board> indexed = ArgumentCaptor.forClass(Board.class);
+    verify(boardSearchEngine, times(3)).index(indexed.capture());
+    assertThat(indexed.getAllValues())
+        .extracting(Board::getId, Board::getTitle, Board::getMemberId)
+        .containsExactly(tuple(1L, "제목1", 1L), tuple(2L, "제목2", 7L), tuple(3L, "제목3", 1L));
+    verify(boardSearchEngine, never()).rebuild();
+  }
+
+  @Test
+  @DisplayName("형식이 잘못되었거나 필수값이 없는 줄은 건너뛰고 줄 번호를 알림")
+  void importBoards_WithInvalidLines_ShouldRejectThem() throws IOException {
+    // given
+    InputStream body =
+        ndjson(
+            "{\"title\":\"제목1\",\"content\":\"내용1\"}",
+            "not json",
+            "{\"title\":\" \",\"content\":\"내용3\"}",
+            "{\"title\":\"" + "가".repeat(101) + "\",\"content\":\"내용4\"}");
+
+    // when
+    BoardImportProgress result = boardImportService.importBoards(body, 1L, progress -> {});
+
+    // then
+    assertThat(result.imported()).isEqualTo(1L);
+    assertThat(result.rejected()).isEqualTo(3L);
+    assertThat(result.rejectedLines()).containsExactly(2L, 3L, 4L);
+  }
+
+  @Test
+  @DisplayName("등록할 게시글이 없으면 INSERT와 색인을 하지 않음")
+  void importBoards_WithEmptyBody_ShouldDoNothing() throws IOException {
+    // when
+    BoardImportProgress result = boardImportService.importBoards(ndjson(""), 1L, progress -> {});
+
+    // then
+    assertThat(result.imported()).isZero();
+    assertThat(result.done()).isTrue();
+    verify(jdbcTemplate, never())
+        .batchUpdate(
+            any(PreparedStatementCreator.class),
+            any(BatchPreparedStatementSetter.class),
+            any(KeyHolder.class));
+    verify(boardSearchEngine, never()).index(any(Board.class));
+  }
+}
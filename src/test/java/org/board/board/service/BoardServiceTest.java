@@ -3,38 +3,57 @@ package org.board.board.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import org.board.board.dto.board.BoardCountMode;
 import org.board.board.dto.board.BoardCreateRequest;
 import org.board.board.dto.board.BoardCreateResponse;
+import org.board.board.dto.board.BoardCursor;
+import org.board.board.dto.board.BoardCursorResponse;
+import org.board.board.dto.board.BoardDetailResponse;
 import org.board.board.dto.board.BoardListResponse;
+import org.board.board.dto.board.BoardSearchCursor;
+import org.board.board.dto.board.BoardUpdateResponse;
 import org.board.board.entity.Board;
+import org.board.board.exception.BoardAccessDeniedException;
+import org.board.board.exception.BoardNotFoundException;
+import org.board.board.exception.BoardVersionMismatchException;
 import org.board.board.repository.BoardRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 class BoardServiceTest {
 
+  private static final int PREVIEW_LENGTH = 100;
+
   @Mock private BoardRepository boardRepository;
+  @Mock private BoardCountCache boardCountCache;
+  @Mock private BoardSearchEngine boardSearchEngine;
+  @Mock private BoardViewCounter boardViewCounter;
 
-  @InjectMocks private BoardService boardService;
+  private BoardService boardService;
 
   private BoardCreateRequest validBoardRequest;
   private Board savedBoard;
@@ -44,6 +63,9 @@ class BoardServiceTest {
     validBoardRequest = new BoardCreateRequest("테스트 게시글", "테스트 게시글 내용입니다.");
     savedBoard = new Board("테스트 게시글", "테스트 게시글 내용입니다.", 1L);
     savedBoard.setId(1L);
+    boardService =
+        new BoardService(
+            boardRepository, boardCountCache, boardSearchEngine, boardViewCounter, PREVIEW_LENGTH);
   }
 
   @Nested
@@ -184,18 +206,29 @@ class BoardServiceTest {
     void getBoardById_WithExistingId_ShouldReturnBoard() {
       // given
       Long boardId = 1L;
-      when(boardRepository.findById(boardId)).thenReturn(Optional.of(savedBoard));
+      BoardDetailResponse detail =
+          new BoardDetailResponse(
+              boardId,
+              "테스트 게시글",
+              "테스트 게시글 내용입니다.",
+              1L,
+              0L,
+              0L,
+              LocalDateTime.now(),
+              LocalDateTime.now());
+      when(boardRepository.findDetailById(boardId)).thenReturn(Optional.of(detail));
 
       // when
-      Board result = boardService.getBoardById(boardId);
+      BoardDetailResponse result = boardService.getBoardById(boardId);
 
       // then
       assertThat(result).isNotNull();
-      assertThat(result.getId()).isEqualTo(1L);
-      assertThat(result.getTitle()).isEqualTo("테스트 게시글");
-      assertThat(result.getContent()).isEqualTo("테스트 게시글 내용입니다.");
-      assertThat(result.getMemberId()).isEqualTo(1L);
-      verify(boardRepository).findById(boardId);
+      assertThat(result.id()).isEqualTo(1L);
+      assertThat(result.title()).isEqualTo("테스트 게시글");
+      assertThat(result.content()).isEqualTo("테스트 게시글 내용입니다.");
+      assertThat(result.memberId()).isEqualTo(1L);
+      verify(boardRepository).findDetailById(boardId);
+      verify(boardRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -203,28 +236,28 @@ class BoardServiceTest {
     void getBoardById_WithNonExistingId_ShouldReturnNull() {
       // given
       Long nonExistingId = 999L;
-      when(boardRepository.findById(nonExistingId)).thenReturn(Optional.empty());
+      when(boardRepository.findDetailById(nonExistingId)).thenReturn(Optional.empty());
 
       // when
-      Board result = boardService.getBoardById(nonExistingId);
+      BoardDetailResponse result = boardService.getBoardById(nonExistingId);
 
       // then
       assertThat(result).isNull();
-      verify(boardRepository).findById(nonExistingId);
+      verify(boardRepository).findDetailById(nonExistingId);
     }
 
     @Test
     @DisplayName("null ID로 조회 시 null 반환")
     void getBoardById_WithNullId_ShouldReturnNull() {
       // given
-      when(boardRepository.findById(null)).thenReturn(Optional.empty());
+      when(boardRepository.findDetailById(null)).thenReturn(Optional.empty());
 
       // when
-      Board result = boardService.getBoardById(null);
+      BoardDetailResponse result = boardService.getBoardById(null);
 
       // then
       assertThat(result).isNull();
-      verify(boardRepository).findById(null);
+      verify(boardRepository).findDetailById(null);
     }
   }
 
@@ -233,21 +266,22 @@ class BoardServiceTest {
   class GetBoardsListTest {
 
     @Test
-    @DisplayName("게시글 목록 조회 시 성공")
+    @DisplayName("정확한 개수 모드로 게시글 목록 조회 시 성공")
     void getBoardsList_WithValidPageable_ShouldReturnPage() {
       // given
-      List<Board> boards =
-          Arrays.asList(new Board("첫 번째 게시글", "첫 번째 내용", 1L), new Board("두 번째 게시글", "두 번째 내용", 2L));
-      boards.get(0).setId(1L);
-      boards.get(1).setId(2L);
+      List<BoardListResponse> boards =
+          Arrays.asList(
+              new BoardListResponse(1L, "첫 번째 게시글", "첫 번째 내용", 1L, null, 0L),
+              new BoardListResponse(2L, "두 번째 게시글", "두 번째 내용", 2L, null, 0L));
 
       Pageable pageable = PageRequest.of(0, 10);
-      Page<Board> boardPage = new PageImpl<>(boards, pageable, 2L);
+      Page<BoardListResponse> boardPage = new PageImpl<>(boards, pageable, 2L);
 
-      when(boardRepository.findAll(pageable)).thenReturn(boardPage);
+      when(boardRepository.findListPage(PREVIEW_LENGTH, pageable)).thenReturn(boardPage);
 
       // when
-      Page<BoardListResponse> result = boardService.getBoardsList(pageable);
+      Page<BoardListResponse> result =
+          (Page<BoardListResponse>) boardService.getBoardsList(pageable, BoardCountMode.EXACT);
 
       // then
       assertThat(result).isNotNull();
@@ -267,7 +301,7 @@ class BoardServiceTest {
       assertThat(secondBoard.content()).isEqualTo("두 번째 내용");
       assertThat(secondBoard.memberId()).isEqualTo(2L);
 
-      verify(boardRepository).findAll(pageable);
+      verify(boardRepository).findListPage(PREVIEW_LENGTH, pageable);
     }
 
     @Test
@@ -275,12 +309,13 @@ class BoardServiceTest {
     void getBoardsList_WithEmptyResult_ShouldReturnEmptyPage() {
       // given
       Pageable pageable = PageRequest.of(0, 10);
-      Page<Board> emptyPage = new PageImpl<>(Arrays.asList(), pageable, 0L);
+      Page<BoardListResponse> emptyPage = new PageImpl<>(Arrays.asList(), pageable, 0L);
 
-      when(boardRepository.findAll(pageable)).thenReturn(emptyPage);
+      when(boardRepository.findListPage(PREVIEW_LENGTH, pageable)).thenReturn(emptyPage);
 
       // when
-      Page<BoardListResponse> result = boardService.getBoardsList(pageable);
+      Page<BoardListResponse> result =
+          (Page<BoardListResponse>) boardService.getBoardsList(pageable, BoardCountMode.EXACT);
 
       // then
       assertThat(result).isNotNull();
@@ -288,23 +323,24 @@ class BoardServiceTest {
       assertThat(result.getTotalElements()).isEqualTo(0);
       assertThat(result.getTotalPages()).isEqualTo(0);
 
-      verify(boardRepository).findAll(pageable);
+      verify(boardRepository).findListPage(PREVIEW_LENGTH, pageable);
     }
 
     @Test
     @DisplayName("페이지네이션으로 게시글 목록 조회 시 성공")
     void getBoardsList_WithPagination_ShouldReturnCorrectPage() {
       // given
-      List<Board> boards = Arrays.asList(new Board("세 번째 게시글", "세 번째 내용", 3L));
-      boards.get(0).setId(3L);
+      List<BoardListResponse> boards =
+          Arrays.asList(new BoardListResponse(3L, "세 번째 게시글", "세 번째 내용", 3L, null, 0L));
 
       Pageable pageable = PageRequest.of(1, 2); // 두 번째 페이지, 페이지당 2개
-      Page<Board> boardPage = new PageImpl<>(boards, pageable, 5L); // 총 5개 게시글
+      Page<BoardListResponse> boardPage = new PageImpl<>(boards, pageable, 5L); // 총 5개 게시글
 
-      when(boardRepository.findAll(pageable)).thenReturn(boardPage);
+      when(boardRepository.findListPage(PREVIEW_LENGTH, pageable)).thenReturn(boardPage);
 
       // when
-      Page<BoardListResponse> result = boardService.getBoardsList(pageable);
+      Page<BoardListResponse> result =
+          (Page<BoardListResponse>) boardService.getBoardsList(pageable, BoardCountMode.EXACT);
 
       // then
       assertThat(result).isNotNull();
@@ -320,21 +356,22 @@ class BoardServiceTest {
       assertThat(board.content()).isEqualTo("세 번째 내용");
       assertThat(board.memberId()).isEqualTo(3L);
 
-      verify(boardRepository).findAll(pageable);
+      verify(boardRepository).findListPage(PREVIEW_LENGTH, pageable);
     }
 
     @Test
     @DisplayName("단일 게시글로 목록 조회 시 성공")
     void getBoardsList_WithSingleBoard_ShouldReturnSinglePage() {
       // given
-      List<Board> boards = Arrays.asList(savedBoard);
+      List<BoardListResponse> boards = Arrays.asList(BoardListResponse.from(savedBoard));
       Pageable pageable = PageRequest.of(0, 10);
-      Page<Board> boardPage = new PageImpl<>(boards, pageable, 1L);
+      Page<BoardListResponse> boardPage = new PageImpl<>(boards, pageable, 1L);
 
-      when(boardRepository.findAll(pageable)).thenReturn(boardPage);
+      when(boardRepository.findListPage(PREVIEW_LENGTH, pageable)).thenReturn(boardPage);
 
       // when
-      Page<BoardListResponse> result = boardService.getBoardsList(pageable);
+      Page<BoardListResponse> result =
+          (Page<BoardListResponse>) boardService.getBoardsList(pageable, BoardCountMode.EXACT);
 
       // then
       assertThat(result).isNotNull();
@@ -348,7 +385,199 @@ class BoardServiceTest {
       assertThat(board.content()).isEqualTo("테스트 게시글 내용입니다.");
       assertThat(board.memberId()).isEqualTo(1L);
 
-      verify(boardRepository).findAll(pageable);
+      verify(boardRepository).findListPage(PREVIEW_LENGTH, pageable);
+    }
+
+    @Test
+    @DisplayName("기본 모드로 목록 조회 시 COUNT 없이 Slice 반환")
+    void getBoardsList_WithNoneCountMode_ShouldReturnSliceWithoutCount() {
+      // given
+      Pageable pageable = PageRequest.of(0, 1);
+      Slice<BoardListResponse> boardSlice =
+          new SliceImpl<>(List.of(BoardListResponse.from(savedBoard)), pageable, true);
+
+      when(boardRepository.findListSlice(PREVIEW_LENGTH, pageable)).thenReturn(boardSlice);
+
+      // when
+      Slice<BoardListResponse> result = boardService.getBoardsList(pageable, BoardCountMode.NONE);
+
+      // then
+      assertThat(result).isNotInstanceOf(Page.class);
+      assertThat(result.getContent()).hasSize(1);
+      assertThat(result.hasNext()).isTrue();
+      assertThat(result.getContent().get(0).id()).isEqualTo(1L);
+
+      verify(boardRepository).findListSlice(PREVIEW_LENGTH, pageable);
+      verify(boardRepository, never()).findListPage(anyInt(), any(Pageable.class));
+      verify(boardCountCache, never()).getApproximateCount();
+    }
+
+    @Test
+    @DisplayName("근사 개수 모드로 목록 조회 시 캐시된 개수 사용")
+    void getBoardsList_WithApproximateCountMode_ShouldUseCachedCount() {
+      // given
+      Pageable pageable = PageRequest.of(0, 1);
+      Slice<BoardListResponse> boardSlice =
+          new SliceImpl<>(List.of(BoardListResponse.from(savedBoard)), pageable, true);
+
+      when(boardRepository.findListSlice(PREVIEW_LENGTH, pageable)).thenReturn(boardSlice);
+      when(boardCountCache.getApproximateCount()).thenReturn(42L);
+
+      // when
+      Slice<BoardListResponse> result =
+          boardService.getBoardsList(pageable, BoardCountMode.APPROXIMATE);
+
+      // then
+      assertThat(result).isInstanceOf(Page.class);
+      assertThat(((Page<BoardListResponse>) result).getTotalElements()).isEqualTo(42L);
+      assertThat(result.getContent()).hasSize(1);
+
+      verify(boardRepository, never()).findListPage(anyInt(), any(Pageable.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("게시글 커서 목록 조회 테스트")
+  class GetBoardsByCursorTest {
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+    private BoardListResponse boardAt(Long id, LocalDateTime createdAt) {
+      return new BoardListResponse(id, "게시글 " + id, "내용 " + id, 1L, createdAt, 0L);
+    }
+
+    @Test
+    @DisplayName("커서 없이 조회 시 첫 페이지와 다음 커서 반환")
+    void getBoardsByCursor_WithoutCursor_ShouldReturnFirstPage() {
+      // given
+      List<BoardListResponse> boards =
+          List.of(
+              boardAt(3L, baseTime.plusMinutes(2)),
+              boardAt(2L, baseTime.plusMinutes(1)),
+              boardAt(1L, baseTime));
+      when(boardRepository.findLatest(PREVIEW_LENGTH, PageRequest.ofSize(3))).thenReturn(boards);
+
+      // when
+      BoardCursorResponse result = boardService.getBoardsByCursor(null, 2);
+
+      // then
+      assertThat(result.boards()).extracting(BoardListResponse::id).containsExactly(3L, 2L);
+      assertThat(result.hasNext()).isTrue();
+      assertThat(BoardCursor.decode(result.nextCursor()))
+          .isEqualTo(new BoardCursor(baseTime.plusMinutes(1), 2L));
+      verify(boardRepository).findLatest(PREVIEW_LENGTH, PageRequest.ofSize(3));
+    }
+
+    @Test
+    @DisplayName("커서로 조회 시 커서 이후 게시글 반환")
+    void getBoardsByCursor_WithCursor_ShouldSeekAfterCursor() {
+      // given
+      String cursor = new BoardCursor(baseTime.plusMinutes(1), 2L).encode();
+      when(boardRepository.findLatestBefore(
+              PREVIEW_LENGTH, baseTime.plusMinutes(1), 2L, PageRequest.ofSize(3)))
+          .thenReturn(List.of(boardAt(1L, baseTime)));
+
+      // when
+      BoardCursorResponse result = boardService.getBoardsByCursor(cursor, 2);
+
+      // then
+      assertThat(result.boards()).extracting(BoardListResponse::id).containsExactly(1L);
+      assertThat(result.hasNext()).isFalse();
+      assertThat(result.nextCursor()).isNull();
+      verify(boardRepository, never()).findLatest(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회 시 예외 발생")
+    void getBoardsByCursor_WithInvalidCursor_ShouldThrowException() {
+      // when & then
+      assertThatThrownBy(() -> boardService.getBoardsByCursor("not-a-cursor", 20))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Invalid cursor");
+      verify(boardRepository, never()).findLatestBefore(anyInt(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("회원 게시글을 커서로 조회 시 회원 조건으로 탐색")
+    void getMemberBoardsByCursor_WithCursor_ShouldSeekWithinMember() {
+      // given
+      String cursor = new BoardCursor(baseTime.plusMinutes(1), 2L).encode();
+      when(boardRepository.findLatestByMemberBefore(
+              PREVIEW_LENGTH, 1L, baseTime.plusMinutes(1), 2L, PageRequest.ofSize(2)))
+          .thenReturn(List.of(boardAt(1L, baseTime)));
+
+      // when
+      BoardCursorResponse result = boardService.getMemberBoardsByCursor(1L, cursor, 1);
+
+      // then
+      assertThat(result.boards()).extracting(BoardListResponse::id).containsExactly(1L);
+      assertThat(result.hasNext()).isFalse();
+      verify(boardRepository, never()).findLatestBefore(anyInt(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 페이지 크기로 조회 시 예외 발생")
+    void getBoardsByCursor_WithInvalidSize_ShouldThrowException() {
+      // when & then
+      assertThatThrownBy(() -> boardService.getBoardsByCursor(null, 0))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> boardService.getBoardsByCursor(null, 101))
+          .isInstanceOf(IllegalArgumentException.class);
+      verify(boardRepository, never()).findLatest(anyInt(), any());
+    }
+  }
+
+  @Nested
+  @DisplayName("게시글 검색 테스트")
+  class SearchBoardsTest {
+
+    private BoardSearchHit hit(Long id, double score) {
+      return new BoardSearchHit(
+          new BoardListResponse(id, "게시글 " + id, "내용 " + id, 1L, LocalDateTime.now(), 0L), score);
+    }
+
+    @Test
+    @DisplayName("검색 시 관련도순 결과와 다음 커서 반환")
+    void searchBoards_WithoutCursor_ShouldReturnRankedPage() {
+      // given
+      when(boardSearchEngine.search("게시판", null, 3))
+          .thenReturn(List.of(hit(5L, 3.0), hit(2L, 2.0), hit(9L, 1.0)));
+
+      // when
+      BoardCursorResponse result = boardService.searchBoards(" 게시판 ", null, 2);
+
+      // then
+      assertThat(result.boards()).extracting(BoardListResponse::id).containsExactly(5L, 2L);
+      assertThat(result.hasNext()).isTrue();
+      assertThat(BoardSearchCursor.decode(result.nextCursor()))
+          .isEqualTo(new BoardSearchCursor(2.0, 2L));
+    }
+
+    @Test
+    @DisplayName("커서로 검색 시 커서 이후 결과 요청")
+    void searchBoards_WithCursor_ShouldSeekAfterCursor() {
+      // given
+      BoardSearchCursor after = new BoardSearchCursor(2.0, 2L);
+      when(boardSearchEngine.search("게시판", after, 3)).thenReturn(List.of(hit(9L, 1.0)));
+
+      // when
+      BoardCursorResponse result = boardService.searchBoards("게시판", after.encode(), 2);
+
+      // then
+      assertThat(result.boards()).extracting(BoardListResponse::id).containsExactly(9L);
+      assertThat(result.hasNext()).isFalse();
+      assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("빈 검색어 또는 너무 긴 검색어로 검색 시 예외 발생")
+    void searchBoards_WithInvalidQuery_ShouldThrowException() {
+      // when & then
+      assertThatThrownBy(() -> boardService.searchBoards(" ", null, 20))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> boardService.searchBoards("가".repeat(101), null, 20))
+          .isInstanceOf(IllegalArgumentException.class);
+      verify(boardSearchEngine, never()).search(any(), any(), anyInt());
     }
   }
 
@@ -356,29 +585,78 @@ class BoardServiceTest {
   @DisplayName("게시글 수정 테스트")
   class UpdateBoardTest {
 
+    private void givenUpdated(
+        Long boardId, Long memberId, List<Long> versions, String title, String content) {
+      if (versions == null) {
+        when(boardRepository.updateIfAuthor(
+                eq(boardId), eq(memberId), eq(title), eq(content), any()))
+            .thenReturn(1);
+      } else {
+        when(boardRepository.updateIfMatches(
+                eq(boardId), eq(memberId), eq(versions), eq(title), eq(content), any()))
+            .thenReturn(1);
+      }
+      if (versions == null || versions.size() > 1) {
+        when(boardRepository.findVersionById(boardId)).thenReturn(Optional.of(5L));
+      }
+    }
+
     @Test
-    @DisplayName("유효한 정보로 게시글 수정 시 성공")
+    @DisplayName("If-Match 없이 게시글 수정 시 한 번의 UPDATE 후 새 버전을 다시 읽어 반환")
     void updateBoard_WithValidData_ShouldSucceed() {
       // given
       Long boardId = 1L;
       String newTitle = "수정된 제목";
       String newContent = "수정된 내용";
       Long memberId = 1L;
-
-      when(boardRepository.findById(boardId)).thenReturn(Optional.of(savedBoard));
-      when(boardRepository.save(any(Board.class))).thenReturn(savedBoard);
+      givenUpdated(boardId, memberId, null, newTitle, newContent);
 
       // when
-      Board result = boardService.updateBoard(boardId, newTitle, newContent, memberId);
+      BoardUpdateResponse result =
+          boardService.updateBoard(boardId, newTitle, newContent, memberId, null);
 
       // then
       assertThat(result).isNotNull();
-      assertThat(result.getId()).isEqualTo(1L);
-      assertThat(result.getTitle()).isEqualTo(newTitle);
-      assertThat(result.getContent()).isEqualTo(newContent);
-      assertThat(result.getMemberId()).isEqualTo(1L);
-      verify(boardRepository).findById(boardId);
-      verify(boardRepository).save(any(Board.class));
+      assertThat(result.id()).isEqualTo(1L);
+      assertThat(result.title()).isEqualTo(newTitle);
+      assertThat(result.content()).isEqualTo(newContent);
+      assertThat(result.memberId()).isEqualTo(1L);
+      assertThat(result.version()).isEqualTo(5L);
+      assertThat(result.updatedAt()).isNotNull();
+      verify(boardRepository, never()).findById(any());
+      verify(boardRepository, never()).save(any(Board.class));
+      verify(boardSearchEngine).update(boardId, newTitle, newContent);
+    }
+
+    @Test
+    @DisplayName("If-Match 버전으로 게시글 수정 시 다음 버전 반환")
+    void updateBoard_WithExpectedVersion_ShouldReturnNextVersion() {
+      // given
+      givenUpdated(1L, 1L, List.of(3L), "수정된 제목", "수정된 내용");
+
+      // when
+      BoardUpdateResponse result =
+          boardService.updateBoard(1L, "수정된 제목", "수정된 내용", 1L, List.of(3L));
+
+      // then
+      assertThat(result.version()).isEqualTo(4L);
+      verify(boardRepository, never()).findById(any());
+      verify(boardRepository, never()).findVersionById(any());
+    }
+
+    @Test
+    @DisplayName("If-Match에 여러 버전이 있으면 그중 하나와 일치할 때 수정하고 새 버전을 다시 읽어 반환")
+    void updateBoard_WithSeveralExpectedVersions_ShouldReadBackNewVersion() {
+      // given
+      givenUpdated(1L, 1L, List.of(3L, 4L), "수정된 제목", "수정된 내용");
+
+      // when
+      BoardUpdateResponse result =
+          boardService.updateBoard(1L, "수정된 제목", "수정된 내용", 1L, List.of(3L, 4L));
+
+      // then
+      assertThat(result.version()).isEqualTo(5L);
+      verify(boardRepository, never()).findById(any());
     }
 
     @Test
@@ -394,10 +672,11 @@ class BoardServiceTest {
 
       // when & then
       assertThatThrownBy(
-              () -> boardService.updateBoard(nonExistingId, newTitle, newContent, memberId))
-          .isInstanceOf(IllegalArgumentException.class)
+              () -> boardService.updateBoard(nonExistingId, newTitle, newContent, memberId, null))
+          .isInstanceOf(BoardNotFoundException.class)
           .hasMessage("Board not found");
       verify(boardRepository).findById(nonExistingId);
+      verify(boardSearchEngine, never()).update(any(), any(), any());
     }
 
     @Test
@@ -413,12 +692,27 @@ class BoardServiceTest {
 
       // when & then
       assertThatThrownBy(
-              () -> boardService.updateBoard(boardId, newTitle, newContent, differentMemberId))
-          .isInstanceOf(IllegalArgumentException.class)
+              () ->
+                  boardService.updateBoard(
+                      boardId, newTitle, newContent, differentMemberId, null))
+          .isInstanceOf(BoardAccessDeniedException.class)
           .hasMessage("You are not the author of this post.");
       verify(boardRepository).findById(boardId);
     }
 
+    @Test
+    @DisplayName("If-Match 버전이 현재 버전과 다르면 예외 발생")
+    void updateBoard_WithStaleVersion_ShouldThrowException() {
+      // given
+      when(boardRepository.findById(1L)).thenReturn(Optional.of(savedBoard));
+
+      // when & then
+      assertThatThrownBy(
+              () -> boardService.updateBoard(1L, "수정된 제목", "수정된 내용", 1L, List.of(2L)))
+          .isInstanceOf(BoardVersionMismatchException.class);
+      verify(boardSearchEngine, never()).update(any(), any(), any());
+    }
+
     @Test
     @DisplayName("null ID로 게시글 수정 시 예외 발생")
     void updateBoard_WithNullId_ShouldThrowException() {
@@ -430,7 +724,7 @@ class BoardServiceTest {
       when(boardRepository.findById(null)).thenReturn(Optional.empty());
 
       // when & then
-      assertThatThrownBy(() -> boardService.updateBoard(null, newTitle, newContent, memberId))
+      assertThatThrownBy(() -> boardService.updateBoard(null, newTitle, newContent, memberId, null))
           .isInstanceOf(IllegalArgumentException.class)
           .hasMessage("Board not found");
       verify(boardRepository).findById(null);
@@ -440,92 +734,58 @@ class BoardServiceTest {
     @DisplayName("빈 제목으로 게시글 수정 시 성공")
     void updateBoard_WithEmptyTitle_ShouldSucceed() {
       // given
-      Long boardId = 1L;
-      String newTitle = "";
-      String newContent = "수정된 내용";
-      Long memberId = 1L;
-
-      when(boardRepository.findById(boardId)).thenReturn(Optional.of(savedBoard));
-      when(boardRepository.save(any(Board.class))).thenReturn(savedBoard);
+      givenUpdated(1L, 1L, null, "", "수정된 내용");
 
       // when
-      Board result = boardService.updateBoard(boardId, newTitle, newContent, memberId);
+      BoardUpdateResponse result = boardService.updateBoard(1L, "", "수정된 내용", 1L, null);
 
       // then
-      assertThat(result).isNotNull();
-      assertThat(result.getTitle()).isEqualTo("");
-      assertThat(result.getContent()).isEqualTo(newContent);
-      verify(boardRepository).findById(boardId);
-      verify(boardRepository).save(any(Board.class));
+      assertThat(result.title()).isEqualTo("");
+      assertThat(result.content()).isEqualTo("수정된 내용");
     }
 
     @Test
     @DisplayName("빈 내용으로 게시글 수정 시 성공")
     void updateBoard_WithEmptyContent_ShouldSucceed() {
       // given
-      Long boardId = 1L;
-      String newTitle = "수정된 제목";
-      String newContent = "";
-      Long memberId = 1L;
-
-      when(boardRepository.findById(boardId)).thenReturn(Optional.of(savedBoard));
-      when(boardRepository.save(any(Board.class))).thenReturn(savedBoard);
+      givenUpdated(1L, 1L, null, "수정된 제목", "");
 
       // when
-      Board result = boardService.updateBoard(boardId, newTitle, newContent, memberId);
+      BoardUpdateResponse result = boardService.updateBoard(1L, "수정된 제목", "", 1L, null);
 
       // then
-      assertThat(result).isNotNull();
-      assertThat(result.getTitle()).isEqualTo(newTitle);
-      assertThat(result.getContent()).isEqualTo("");
-      verify(boardRepository).findById(boardId);
-      verify(boardRepository).save(any(Board.class));
+      assertThat(result.title()).isEqualTo("수정된 제목");
+      assertThat(result.content()).isEqualTo("");
     }
 
     @Test
     @DisplayName("긴 제목으로 게시글 수정 시 성공")
     void updateBoard_WithLongTitle_ShouldSucceed() {
       // given
-      Long boardId = 1L;
       String longTitle = "이것은 매우 긴 게시글 제목입니다. 최대 100자까지 입력할 수 있는 제목입니다.";
-      String newContent = "수정된 내용";
-      Long memberId = 1L;
-
-      when(boardRepository.findById(boardId)).thenReturn(Optional.of(savedBoard));
-      when(boardRepository.save(any(Board.class))).thenReturn(savedBoard);
+      givenUpdated(1L, 1L, null, longTitle, "수정된 내용");
 
       // when
-      Board result = boardService.updateBoard(boardId, longTitle, newContent, memberId);
+      BoardUpdateResponse result = boardService.updateBoard(1L, longTitle, "수정된 내용", 1L, null);
 
       // then
-      assertThat(result).isNotNull();
-      assertThat(result.getTitle()).isEqualTo(longTitle);
-      assertThat(result.getContent()).isEqualTo(newContent);
-      verify(boardRepository).findById(boardId);
-      verify(boardRepository).save(any(Board.class));
+      assertThat(result.title()).isEqualTo(longTitle);
+      assertThat(result.content()).isEqualTo("수정된 내용");
     }
 
     @Test
     @DisplayName("긴 내용으로 게시글 수정 시 성공")
     void updateBoard_WithLongContent_ShouldSucceed() {
       // given
-      Long boardId = 1L;
-      String newTitle = "수정된 제목";
       String longContent = "이것은 매우 긴 게시글 내용입니다. ".repeat(20) + "최대 1000자까지 입력할 수 있습니다.";
-      Long memberId = 1L;
-
-      when(boardRepository.findById(boardId)).thenReturn(Optional.of(savedBoard));
-      when(boardRepository.save(any(Board.class))).thenReturn(savedBoard);
+      givenUpdated(1L, 1L, null, "수정된 제목", longContent);
 
       // when
-      Board result = boardService.updateBoard(boardId, newTitle, longContent, memberId);
+      BoardUpdateResponse result = boardService.updateBoard(1L, "수정된 제목", longContent, 1L, null);
 
       // then
-      assertThat(result).isNotNull();
-      assertThat(result.getTitle()).isEqualTo(newTitle);
-      assertThat(result.getContent()).isEqualTo(longContent);
-      verify(boardRepository).findById(boardId);
-      verify(boardRepository).save(any(Board.class));
+      assertThat(result.title()).isEqualTo("수정된 제목");
+      assertThat(result.content()).isEqualTo(longContent);
     }
   }
 
@@ -534,20 +794,21 @@ class BoardServiceTest {
   class DeleteBoardTest {
 
     @Test
-    @DisplayName("유효한 정보로 게시글 삭제 시 성공")
+    @DisplayName("유효한 정보로 게시글 삭제 시 조회 없이 한 번의 DELETE로 성공")
     void deleteBoard_WithValidData_ShouldSucceed() {
       // given
       Long boardId = 1L;
       Long memberId = 1L;
 
-      when(boardRepository.findById(boardId)).thenReturn(Optional.of(savedBoard));
+      when(boardRepository.deleteIfAuthor(boardId, memberId)).thenReturn(1);
 
       // when
-      boardService.deleteBoard(boardId, memberId);
+      boardService.deleteBoard(boardId, memberId, null);
 
       // then
-      verify(boardRepository).findById(boardId);
-      verify(boardRepository).deleteById(boardId);
+      verify(boardRepository).deleteIfAuthor(boardId, memberId);
+      verify(boardRepository, never()).findById(any());
+      verify(boardSearchEngine).remove(boardId);
     }
 
     @Test
@@ -560,11 +821,11 @@ class BoardServiceTest {
       when(boardRepository.findById(nonExistingId)).thenReturn(Optional.empty());
 
       // when & then
-      assertThatThrownBy(() -> boardService.deleteBoard(nonExistingId, memberId))
-          .isInstanceOf(IllegalArgumentException.class)
+      assertThatThrownBy(() -> boardService.deleteBoard(nonExistingId, memberId, null))
+          .isInstanceOf(BoardNotFoundException.class)
           .hasMessage("Board not found");
       verify(boardRepository).findById(nonExistingId);
-      verify(boardRepository, never()).deleteById(any());
+      verify(boardSearchEngine, never()).remove(any());
     }
 
     @Test
@@ -577,11 +838,24 @@ class BoardServiceTest {
       when(boardRepository.findById(boardId)).thenReturn(Optional.of(savedBoard));
 
       // when & then
-      assertThatThrownBy(() -> boardService.deleteBoard(boardId, differentMemberId))
-          .isInstanceOf(IllegalArgumentException.class)
+      assertThatThrownBy(() -> boardService.deleteBoard(boardId, differentMemberId, null))
+          .isInstanceOf(BoardAccessDeniedException.class)
           .hasMessage("You are not the author of this post.");
       verify(boardRepository).findById(boardId);
-      verify(boardRepository, never()).deleteById(any());
+      verify(boardSearchEngine, never()).remove(any());
+    }
+
+    @Test
+    @DisplayName("If-Match 버전이 현재 버전과 다르면 삭제하지 않고 예외 발생")
+    void deleteBoard_WithStaleVersion_ShouldThrowException() {
+      // given
+      when(boardRepository.findById(1L)).thenReturn(Optional.of(savedBoard));
+
+      // when & then
+      assertThatThrownBy(() -> boardService.deleteBoard(1L, 1L, List.of(5L)))
+          .isInstanceOf(BoardVersionMismatchException.class);
+      verify(boardRepository).deleteIfMatches(1L, 1L, List.of(5L));
+      verify(boardSearchEngine, never()).remove(any());
     }
 
     @Test
@@ -593,11 +867,10 @@ class BoardServiceTest {
       when(boardRepository.findById(null)).thenReturn(Optional.empty());
 
       // when & then
-      assertThatThrownBy(() -> boardService.deleteBoard(null, memberId))
+      assertThatThrownBy(() -> boardService.deleteBoard(null, memberId, null))
           .isInstanceOf(IllegalArgumentException.class)
           .hasMessage("Board not found");
       verify(boardRepository).findById(null);
-      verify(boardRepository, never()).deleteById(any());
     }
 
     @Test
@@ -611,11 +884,10 @@ class BoardServiceTest {
       when(boardRepository.findById(boardId)).thenReturn(Optional.of(otherMemberBoard));
 
       // when & then
-      assertThatThrownBy(() -> boardService.deleteBoard(boardId, 1L))
+      assertThatThrownBy(() -> boardService.deleteBoard(boardId, 1L, null))
           .isInstanceOf(IllegalArgumentException.class)
           .hasMessage("You are not the author of this post.");
       verify(boardRepository).findById(boardId);
-      verify(boardRepository, never()).deleteById(any());
     }
 
     @Test
@@ -627,11 +899,10 @@ class BoardServiceTest {
       when(boardRepository.findById(boardId)).thenReturn(Optional.of(savedBoard));
 
       // when & then
-      assertThatThrownBy(() -> boardService.deleteBoard(boardId, null))
+      assertThatThrownBy(() -> boardService.deleteBoard(boardId, null, null))
           .isInstanceOf(IllegalArgumentException.class)
           .hasMessage("You are not the author of this post.");
       verify(boardRepository).findById(boardId);
-      verify(boardRepository, never()).deleteById(any());
     }
   }
 }
@@ -0,0 +1,202 @@
+package org.board.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.board.board.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class BoardViewCounterTest {
+
+  private final ConcurrentMapCacheManager cacheManager =
+      new ConcurrentMapCacheManager(CacheConfig.BOARDS);
+
+  private JdbcTemplate jdbcTemplate;
+  private BoardViewCounter viewCounter;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = mock(JdbcTemplate.class);
+    viewCounter =
+        new BoardViewCounter(
+            jdbcTemplate,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            cacheManager);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<long[]> flushedIncrements(int invocations) {
+    ArgumentCaptor<Collection<long[]>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(jdbcTemplate, times(invocations))
+        .batchUpdate(
+            anyString(),
+            captor.capture(),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+    return new ArrayList<>(captor.getValue());
+  }
+
+  @Test
+  @DisplayName("누적된 조회수를 게시글별 한 건의 배치 UPDATE로 반영")
+  void flush_ShouldBatchAccumulatedIncrements() {
+    // given
+    for (int i = 0; i < 3; i++) {
+      viewCounter.increment(2L);
+    }
+    viewCounter.increment(1L);
+
+    // when
+    viewCounter.flush();
+
+    // then
+    assertThat(flushedIncrements(1)).containsExactly(new long[] {1L, 1L}, new long[] {2L, 3L});
+  }
+
+  @Test
+  @DisplayName("반영 후 새 조회가 없으면 다음 주기에는 UPDATE하지 않음")
+  void flush_WithoutNewViews_ShouldSkipUpdate() {
+    // given
+    viewCounter.increment(1L);
+    viewCounter.flush();
+
+    // when
+    viewCounter.flush();
+
+    // then
+    flushedIncrements(1);
+  }
+
+  @Test
+  @DisplayName("반영 실패 시 누적분을 유지하여 다음 주기에 재시도")
+  @SuppressWarnings("unchecked")
+  void flush_WhenUpdateFails_ShouldRetainIncrements() {
+    // given
+    viewCounter.increment(1L);
+    viewCounter.increment(1L);
+    doThrow(new QueryTimeoutException("timeout"))
+        .doReturn(new int[0][])
+        .when(jdbcTemplate)
+        .batchUpdate(
+            anyString(),
+            anyCollection(),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+    viewCounter.flush();
+    viewCounter.increment(1L);
+
+    // when
+    viewCounter.flush();
+
+    // then
+    assertThat(flushedIncrements(2)).containsExactly(new long[] {1L, 3L});
+  }
+
+  @Test
+  @DisplayName("반영에 성공한 게시글만 상세 캐시에서 제거")
+  @SuppressWarnings("unchecked")
+  void flush_ShouldEvictFlushedBoardsFromCacheOnlyOnSuccess() {
+    // given
+    Cache boards = cacheManager.getCache(CacheConfig.BOARDS);
+    boards.put(1L, "cached 1");
+    boards.put(2L, "cached 2");
+    viewCounter.increment(1L);
+    doThrow(new QueryTimeoutException("timeout"))
+        .doReturn(new int[0][])
+        .when(jdbcTemplate)
+        .batchUpdate(
+            anyString(),
+            anyCollection(),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+
+    // when & then
+    viewCounter.flush();
+    assertThat(boards.get(1L)).isNotNull();
+
+    viewCounter.flush();
+    assertThat(boards.get(1L)).isNull();
+    assertThat(boards.get(2L)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("조회가 없으면 DB에 접근하지 않음")
+  @SuppressWarnings("unchecked")
+  void flush_WithoutViews_ShouldNotTouchDatabase() {
+    // when
+    viewCounter.shutdown();
+
+    // then
+    verify(jdbcTemplate, never())
+        .batchUpdate(
+            anyString(),
+            anyCollection(),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  @DisplayName("뒤 배치 청크가 실패하면 앞 청크까지 롤백되어 재시도 시 중복 반영되지 않음")
+  void flush_WhenLaterChunkFails_ShouldNotDoubleCountCommittedChunks() {
+    // given
+    EmbeddedDatabase database =
+        new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+    try {
+      JdbcTemplate h2 = new JdbcTemplate(database);
+      h2.execute(
+          "create table board (id bigint primary key,"
+              + " view_count bigint not null check (view_count < 1000))");
+      h2.execute("insert into board select x, 0 from system_range(1, 600)");
+      h2.update("update board set view_count = 999 where id = 600");
+      BoardViewCounter counter =
+          new BoardViewCounter(
+              h2,
+              new TransactionTemplate(new DataSourceTransactionManager(database)),
+              cacheManager);
+      for (long id = 1; id <= 600; id++) {
+        counter.increment(id);
+      }
+
+      // when
+      counter.flush();
+      h2.update("update board set view_count = 0 where id = 600");
+      counter.flush();
+
+      // then
+      assertThat(h2.queryForObject("select view_count from board where id = 1", Long.class))
+          .isEqualTo(1L);
+      assertThat(h2.queryForObject("select sum(view_count) from board", Long.class))
+          .isEqualTo(600L);
+    } finally {
+      database.shutdown();
+    }
+  }
+}
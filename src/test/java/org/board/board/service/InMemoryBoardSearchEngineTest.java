@@ -0,0 +1,111 @@
+package org.board.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.board.board.dto.board.BoardListResponse;
+import org.board.board.dto.board.BoardSearchCursor;
+import org.board.board.entity.Board;
+import org.board.board.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryBoardSearchEngineTest {
+
+  private BoardRepository boardRepository;
+  private InMemoryBoardSearchEngine searchEngine;
+
+  @BeforeEach
+  void setUp() {
+    boardRepository = mock(BoardRepository.class);
+    searchEngine = new InMemoryBoardSearchEngine(boardRepository, 10);
+  }
+
+  private Board board(Long id, String title, String content) {
+    Board board = new Board(title, content, 1L);
+    board.setId(id);
+    board.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(id));
+    return board;
+  }
+
+  private List<Long> ids(List<BoardSearchHit> hits) {
+    return hits.stream().map(hit -> hit.board().id()).toList();
+  }
+
+  @Test
+  @DisplayName("제목과 본문에서 검색어가 많이 등장한 게시글이 먼저 반환")
+  void search_ShouldRankByRelevance() {
+    // given
+    searchEngine.index(board(1L, "점심 메뉴", "오늘 점심은 김치찌개"));
+    searchEngine.index(board(2L, "게시판 공지", "게시판 이용 규칙 안내"));
+    searchEngine.index(board(3L, "자유 게시판", "아무 이야기"));
+
+    // when
+    List<BoardSearchHit> hits = searchEngine.search("게시판", null, 10);
+
+    // then
+    assertThat(ids(hits)).containsExactly(2L, 3L);
+  }
+
+  @Test
+  @DisplayName("커서 이후의 결과만 반환하여 페이지가 겹치지 않음")
+  void search_WithCursor_ShouldContinueAfterCursor() {
+    // given
+    for (long id = 1; id <= 5; id++) {
+      searchEngine.index(board(id, "검색 " + id, "내용"));
+    }
+    List<BoardSearchHit> firstPage = searchEngine.search("검색", null, 2);
+    BoardSearchHit last = firstPage.get(firstPage.size() - 1);
+
+    // when
+    List<BoardSearchHit> secondPage =
+        searchEngine.search("검색", new BoardSearchCursor(last.score(), last.board().id()), 10);
+
+    // then
+    assertThat(ids(firstPage)).containsExactly(5L, 4L);
+    assertThat(ids(secondPage)).containsExactly(3L, 2L, 1L);
+  }
+
+  @Test
+  @DisplayName("수정 및 삭제가 색인에 반영되고 미리보기는 잘려서 저장")
+  void indexAndRemove_ShouldKeepIndexInSync() {
+    // given
+    searchEngine.index(board(1L, "원래 제목", "0123456789abcdef"));
+    searchEngine.index(board(1L, "바뀐 제목", "0123456789abcdef"));
+    searchEngine.index(board(2L, "바뀐 내용", "본문"));
+
+    // when
+    List<BoardSearchHit> original = searchEngine.search("원래", null, 10);
+    List<BoardSearchHit> updated = searchEngine.search("바뀐", null, 10);
+    searchEngine.remove(2L);
+    List<BoardSearchHit> afterRemove = searchEngine.search("바뀐", null, 10);
+
+    // then
+    assertThat(original).isEmpty();
+    assertThat(ids(updated)).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(ids(afterRemove)).containsExactly(1L);
+    assertThat(afterRemove.get(0).board())
+        .extracting(BoardListResponse::content)
+        .isEqualTo("0123456789");
+  }
+
+  @Test
+  @DisplayName("재색인 시 저장소의 게시글로 색인을 다시 구성")
+  void rebuild_ShouldReplaceIndexWithRepositoryContents() {
+    // given
+    searchEngine.index(board(1L, "지워질 글", "내용"));
+    when(boardRepository.findAll()).thenReturn(List.of(board(2L, "남을 글", "내용")));
+
+    // when
+    searchEngine.rebuild();
+
+    // then
+    assertThat(searchEngine.search("지워질", null, 10)).isEmpty();
+    assertThat(ids(searchEngine.search("남을", null, 10))).containsExactly(2L);
+  }
+}
@@ -0,0 +1,65 @@
+package org.board.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+
+import org.board.board.entity.MemberType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.JwtException;
+
+class JwtServiceTest {
+
+  private static final String SECRET = "test-secret-key-for-testing-only-very-long-secret-key";
+  private static final long EXPIRATION = 3_600_000L;
+
+  private JwtService jwtService;
+
+  @BeforeEach
+  void setUp() {
+    jwtService = new JwtService(SECRET, EXPIRATION);
+  }
+
+  @Test
+  @DisplayName("발급한 토큰을 한 번 파싱하여 ID, 유형, 만료시각 반환")
+  void parseToken_WithValidToken_ShouldReturnClaims() {
+    // given
+    String token = jwtService.generateToken(1L, MemberType.ADMIN);
+
+    // when
+    JwtClaims claims = jwtService.parseToken(token);
+
+    // then
+    assertThat(claims.id()).isEqualTo(1L);
+    assertThat(claims.type()).isEqualTo(MemberType.ADMIN);
+    assertThat(claims.expiresAt()).isAfter(Instant.now());
+  }
+
+  @Test
+  @DisplayName("다른 키로 서명된 토큰 파싱 시 예외 발생")
+  void parseToken_WithForeignSignature_ShouldThrowException() {
+    // given
+    JwtService otherService =
+        new JwtService("another-secret-key-for-testing-only-very-long-key", EXPIRATION);
+    String token = otherService.generateToken(1L, MemberType.USER);
+
+    // when & then
+    assertThatThrownBy(() -> jwtService.parseToken(token)).isInstanceOf(JwtException.class);
+    assertThat(jwtService.validateToken(token)).isFalse();
+  }
+
+  @Test
+  @DisplayName("만료된 토큰 파싱 시 예외 발생")
+  void parseToken_WithExpiredToken_ShouldThrowException() {
+    // given
+    JwtService expiredService = new JwtService(SECRET, -1_000L);
+    String token = expiredService.generateToken(1L, MemberType.USER);
+
+    // when & then
+    assertThatThrownBy(() -> jwtService.parseToken(token)).isInstanceOf(JwtException.class);
+  }
+}
@@ -33,6 +33,7 @@ class MemberServiceTest {
   @Mock private MemberRepository memberRepository;
   @Mock private PasswordEncoder passwordEncoder;
   @Mock private JwtService jwtService;
+  @Mock private PasswordRehashService passwordRehashService;
 
   @InjectMocks private MemberService memberService;
 
@@ -239,6 +240,24 @@ class MemberServiceTest {
       verify(memberRepository).findByUsername("testuser");
       verify(passwordEncoder).matches("Password123", "encodedPassword");
       verify(jwtService).generateToken(1L, MemberType.USER);
+      verify(passwordRehashService, never()).rehash(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("오래된 해시로 로그인 시 백그라운드 재해시 요청")
+    void login_WithOutdatedHash_ShouldRequestRehash() {
+      // given
+      when(memberRepository.findByUsername("testuser")).thenReturn(Optional.of(testMember));
+      when(passwordEncoder.matches("Password123", "encodedPassword")).thenReturn(true);
+      when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+      when(jwtService.generateToken(1L, MemberType.USER)).thenReturn("jwt-token");
+
+      // when
+      LoginResponse response = memberService.login(validLoginRequest);
+
+      // then
+      assertThat(response.getToken()).isEqualTo("jwt-token");
+      verify(passwordRehashService).rehash(1L, "encodedPassword", "Password123");
     }
 
     @Test
@@ -270,6 +289,7 @@ class MemberServiceTest {
       verify(memberRepository).findByUsername("testuser");
       verify(passwordEncoder).matches("WrongPassword", "encodedPassword");
       verify(jwtService, never()).generateToken(any(Long.class), any());
+      verify(passwordRehashService, never()).rehash(any(), anyString(), anyString());
     }
   }
 }